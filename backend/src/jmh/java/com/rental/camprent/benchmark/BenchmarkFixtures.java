@@ -0,0 +1,38 @@
+package com.rental.camprent.benchmark;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import com.rental.camprent.domain.campingitem.CampingItem;
+import com.rental.camprent.domain.campingitem.CampingItemStatus;
+import com.rental.camprent.domain.customer.Customer;
+import com.rental.camprent.domain.customer.CustomerType;
+
+import java.math.BigDecimal;
+
+/**
+ * 벤치마크 공용 테스트 데이터
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static CampingItem campingItem(int stockQuantity) {
+        return CampingItem.builder()
+                .name("4인용 돔 텐트")
+                .category(CampingCategory.TENT)
+                .model("코베아 아웃백")
+                .description("설치가 쉬운 4인용 돔 텐트")
+                .stockQuantity(stockQuantity)
+                .baseDailyRate(new BigDecimal("35000.00"))
+                .status(CampingItemStatus.AVAILABLE)
+                .build();
+    }
+
+    static Customer customer() {
+        return Customer.builder()
+                .name("홍길동")
+                .phone("010-1234-5678")
+                .type(CustomerType.INDIVIDUAL)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.rental.camprent.benchmark;
+
+import com.rental.camprent.domain.campingitem.CampingItem;
+import com.rental.camprent.dto.response.CampingItemResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회 응답 변환 (CampingItem -> CampingItemResponse)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CampingItemResponseBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private List<CampingItem> items;
+
+    @Setup
+    public void setUp() {
+        items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(BenchmarkFixtures.campingItem(i % 20 + 1));
+        }
+    }
+
+    @Benchmark
+    public List<CampingItemResponse> mapList() {
+        return items.stream()
+                .map(CampingItemResponse::from)
+                .toList();
+    }
+}
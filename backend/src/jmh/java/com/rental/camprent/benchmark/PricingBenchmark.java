@@ -0,0 +1,52 @@
+package com.rental.camprent.benchmark;
+
+import com.rental.camprent.domain.campingitem.CampingItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기간 대여료 계산 - 일 단위 calculateDailyRate 합산 vs 계절 구간 계산
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PricingBenchmark {
+
+    @Param({"7", "90", "365", "1095"})
+    private int rentalDays;
+
+    private CampingItem item;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    @Setup
+    public void setUp() {
+        item = BenchmarkFixtures.campingItem(10);
+        startDate = LocalDate.of(2026, 5, 20);
+        endDate = startDate.plusDays(rentalDays - 1);
+    }
+
+    @Benchmark
+    public BigDecimal dailyRateSum() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            total = total.add(item.calculateDailyRate(date));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimal rentalCost() {
+        return item.calculateRentalCost(startDate, endDate);
+    }
+}
@@ -0,0 +1,66 @@
+package com.rental.camprent.benchmark;
+
+import com.rental.camprent.domain.campingitem.CampingItem;
+import com.rental.camprent.domain.campingrental.Rental;
+import com.rental.camprent.domain.customer.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rental 생성(총 비용 계산)과 기간 연장
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RentalBenchmark {
+
+    @Param({"3", "30", "180"})
+    private int rentalDays;
+
+    private CampingItem item;
+    private Customer customer;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    @Setup
+    public void setUp() {
+        item = BenchmarkFixtures.campingItem(10);
+        customer = BenchmarkFixtures.customer();
+        startDate = LocalDate.of(2026, 7, 20);
+        endDate = startDate.plusDays(rentalDays - 1);
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalCost() {
+        return newRental().getTotalCost();
+    }
+
+    @Benchmark
+    public BigDecimal extend() {
+        Rental rental = newRental();
+        rental.approve();
+        rental.start();
+        rental.extend(endDate.plusDays(rentalDays));
+        return rental.getTotalCost();
+    }
+
+    private Rental newRental() {
+        return Rental.builder()
+                .machine(item)
+                .customer(customer)
+                .startDate(startDate)
+                .endDate(endDate)
+                .deposit(new BigDecimal("50000.00"))
+                .build();
+    }
+}
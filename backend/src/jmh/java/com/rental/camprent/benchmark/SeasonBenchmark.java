@@ -0,0 +1,41 @@
+package com.rental.camprent.benchmark;
+
+import com.rental.camprent.domain.common.Season;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Season.fromDate - 1년치 날짜 계절 판별
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SeasonBenchmark {
+
+    private LocalDate[] dates;
+
+    @Setup
+    public void setUp() {
+        dates = new LocalDate[365];
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = start.plusDays(i);
+        }
+    }
+
+    @Benchmark
+    public void fromDate(Blackhole blackhole) {
+        for (LocalDate date : dates) {
+            blackhole.consume(Season.fromDate(date));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.rental.camprent.benchmark;
+
+import com.rental.camprent.domain.campingitem.CampingItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 장비 1건에 대한 재고 증감 경합
+ * - 엔티티 자체는 thread-safe 하지 않으므로 행 잠금과 같은 직렬화를 모니터로 재현한다
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StockContentionBenchmark {
+
+    private CampingItem item;
+
+    @Setup
+    public void setUp() {
+        item = BenchmarkFixtures.campingItem(1_000_000);
+    }
+
+    @Benchmark
+    @Group("stock")
+    @GroupThreads(4)
+    public void decreaseStock() {
+        synchronized (item) {
+            if (item.isAvailable(1)) {
+                item.decreaseStock(1);
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("stock")
+    @GroupThreads(4)
+    public void increaseStock() {
+        synchronized (item) {
+            item.increaseStock(1);
+        }
+    }
+}
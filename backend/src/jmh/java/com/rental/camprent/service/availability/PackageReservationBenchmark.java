@@ -0,0 +1,114 @@
+package com.rental.camprent.service.availability;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 묶음 예약의 가용 재고 원장 처리량 (여러 스레드가 겹치는 장비/기간으로 동시에 예약)
+ * - 메모리 원장(ItemReservationLedger)만 측정한다. DB 조회/잠금/insert 를 포함한 RentalService.reservePackage 의
+ *   쿼리 수는 PackageReservationQueryTest 에서 확인한다
+ * - 원장 클래스가 package-private 이라 벤치마크도 같은 패키지에 둔다
+ * - package: 장비 ID 순으로 원장을 모두 잠근 뒤 한 번에 확인/예약 (ItemReservationLedger.tryReserveAll)
+ * - separate: 장비별로 따로 예약하고 실패하면 앞서 예약한 것을 되돌림 (기존 방식으로 묶음을 처리할 때)
+ * - 예약 직후 해제해 원장 상태를 일정하게 유지한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class PackageReservationBenchmark {
+
+    private static final int ITEMS = 16;        // 인기 장비 수 (묶음끼리 많이 겹치도록 작게)
+    private static final int BUNDLE_SIZE = 3;   // 텐트 + 침낭 + 버너
+    private static final int HORIZON_DAYS = 60; // 예약 가능 기간
+
+    @Param({"4", "1000"})
+    private int capacity;                       // 장비별 보유 수량 (4: 재고 부족 실패가 잦은 성수기)
+
+    private List<ItemReservationLedger> ledgers;
+    private long today;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        today = LocalDate.now().toEpochDay();
+        ledgers = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            ledgers.add(new ItemReservationLedger(capacity, today));
+        }
+    }
+
+    @Benchmark
+    public void reservePackage(Blackhole blackhole) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int[] itemIndexes = randomBundle(random);
+        long from = today + random.nextInt(HORIZON_DAYS);
+        long to = from + 1 + random.nextInt(6);
+
+        List<ItemReservationLedger> bundle = new ArrayList<>(BUNDLE_SIZE);
+        int[] quantities = new int[BUNDLE_SIZE];
+        for (int i = 0; i < BUNDLE_SIZE; i++) {
+            bundle.add(ledgers.get(itemIndexes[i]));
+            quantities[i] = 1;
+        }
+        int failed = ItemReservationLedger.tryReserveAll(bundle, quantities, from, to);
+        if (failed < 0) {
+            for (ItemReservationLedger ledger : bundle) {
+                ledger.add(from, to, -1);
+            }
+        }
+        blackhole.consume(failed);
+    }
+
+    @Benchmark
+    public void reserveSeparately(Blackhole blackhole) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int[] itemIndexes = randomBundle(random);
+        long from = today + random.nextInt(HORIZON_DAYS);
+        long to = from + 1 + random.nextInt(6);
+
+        int reserved = 0;
+        while (reserved < BUNDLE_SIZE && ledgers.get(itemIndexes[reserved]).tryReserve(from, to, 1)) {
+            reserved++;
+        }
+        for (int i = 0; i < reserved; i++) {
+            ledgers.get(itemIndexes[i]).add(from, to, -1);
+        }
+        blackhole.consume(reserved);
+    }
+
+    /**
+     * 서로 다른 장비 BUNDLE_SIZE 개를 ID 오름차순으로
+     */
+    private static int[] randomBundle(ThreadLocalRandom random) {
+        int[] indexes = new int[BUNDLE_SIZE];
+        int count = 0;
+        while (count < BUNDLE_SIZE) {
+            int candidate = random.nextInt(ITEMS);
+            boolean duplicate = false;
+            for (int i = 0; i < count; i++) {
+                duplicate |= indexes[i] == candidate;
+            }
+            if (!duplicate) {
+                indexes[count++] = candidate;
+            }
+        }
+        Arrays.sort(indexes);
+        return indexes;
+    }
+}
@@ -0,0 +1,98 @@
+package com.rental.camprent.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 측정 대상 애플리케이션을 별도 JVM 프로세스로 실행
+ */
+public class AppProcess implements AutoCloseable {
+
+    private final Process process;
+    private final String baseUrl;
+    private final long startedAt;
+
+    private AppProcess(Process process, String baseUrl, long startedAt) {
+        this.process = process;
+        this.baseUrl = baseUrl;
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * @param jvmArgs  JVM 옵션 (-Xmx, -XX:SharedArchiveFile 등)
+     * @param appArgs  애플리케이션 인자 (--spring.profiles.active 등)
+     */
+    public static AppProcess start(String jar, int port, List<String> jvmArgs, List<String> appArgs) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(jar);
+        command.add("--server.port=" + port);
+        command.addAll(appArgs);
+
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(new File(System.getProperty("java.io.tmpdir"), "camprent-loadtest-" + port + ".log"))
+                .start();
+        return new AppProcess(process, "http://localhost:" + port, startedAt);
+    }
+
+    /**
+     * 헬스 체크가 성공할 때까지 대기
+     *
+     * @return 프로세스 시작부터 첫 성공 응답까지 걸린 시간
+     */
+    public Duration awaitReady(HttpClient client, String authorization, Duration timeout) throws InterruptedException {
+        return awaitFirstResponse(client, authorization, "/actuator/health", timeout);
+    }
+
+    /**
+     * 지정한 경로가 200 으로 응답할 때까지 대기
+     *
+     * @return 프로세스 시작부터 첫 성공 응답까지 걸린 시간
+     */
+    public Duration awaitFirstResponse(HttpClient client, String authorization, String path, Duration timeout)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", authorization)
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("애플리케이션 프로세스가 종료되었습니다. exitCode=" + process.exitValue());
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return Duration.ofNanos(System.nanoTime() - startedAt);
+                }
+            } catch (IOException e) {
+                // 아직 기동 중
+            }
+            Thread.sleep(20);
+        }
+        throw new IllegalStateException("애플리케이션이 제한 시간 내에 기동하지 않았습니다.");
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(10, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.rental.camprent.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 성수기 예약 폭주 부하 테스트
+ * - 내장 H2 (loadtest 프로필) 로 애플리케이션을 띄우고 장비/고객 데이터를 만든 뒤,
+ *   카탈로그 조회 / 대여 신청 / 승인 / 시작 / 연장 / 반납을 작업별 목표 속도(건/초)로 동시에 보낸다
+ * - 응답을 기다리지 않고 정해진 간격으로 요청을 보내므로(open loop) 서버가 느려지면 지연 시간에 그대로 드러난다
+ * - 작업별 처리량, 오류율, 지연 백분위를 출력한다 (2xx 외 응답과 동시 요청 한도 초과는 오류)
+ *
+ * 인자: jar=<bootJar 경로> (또는 baseUrl=http://localhost:8080 으로 떠 있는 서버 사용)
+ *       items=2000 customers=10000 durationSeconds=60 warmupSeconds=10 maxInFlight=2000 port=18080
+ *       browseRate=200 createRate=50 approveRate=40 startRate=40 extendRate=10 returnRate=30
+ */
+public class BookingStormLoadTest {
+
+    private static final String[] CATEGORIES = {
+            "TENT", "SLEEPING_BAG", "CAMP_STOVE", "CAMPING_FURNITURE", "COOKING_GEAR", "LIGHTING", "RAIN_GEAR", "COOLER"
+    };
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Pattern IDS_PATTERN = Pattern.compile("\"(itemIds|customerIds)\"\\s*:\\s*\\[([^]]*)]");
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String authorization;
+    private final Semaphore inFlight;
+    private final long[] itemIds;
+    private final long[] customerIds;
+    private final LocalDate seasonStart;
+
+    // 상태별로 다음 작업을 기다리는 대여
+    private final ConcurrentLinkedQueue<Booking> pending = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Booking> approved = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Booking> inProgress = new ConcurrentLinkedQueue<>();
+
+    private BookingStormLoadTest(HttpClient client, String baseUrl, String authorization, int maxInFlight,
+                                 long[] itemIds, long[] customerIds) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.authorization = authorization;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.itemIds = itemIds;
+        this.customerIds = customerIds;
+        this.seasonStart = Year.now().plusYears(1).atMonth(7).atDay(1);    // 내년 여름 성수기
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestArgs arguments = new LoadTestArgs(args);
+        Duration duration = Duration.ofSeconds(arguments.getInt("durationSeconds", 60));
+        Duration warmup = Duration.ofSeconds(arguments.getInt("warmupSeconds", 10));
+        String authorization = ThreadModeComparison.basicAuth(
+                arguments.get("username", "loadtest"), arguments.get("password", "loadtest"));
+
+        Map<String, Double> rates = new LinkedHashMap<>();
+        rates.put("browse", arguments.getDouble("browseRate", 200));
+        rates.put("create", arguments.getDouble("createRate", 50));
+        rates.put("approve", arguments.getDouble("approveRate", 40));
+        rates.put("start", arguments.getDouble("startRate", 40));
+        rates.put("extend", arguments.getDouble("extendRate", 10));
+        rates.put("return", arguments.getDouble("returnRate", 30));
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        String baseUrl = arguments.get("baseUrl", null);
+        AppProcess app = null;
+        if (baseUrl == null) {
+            app = AppProcess.start(arguments.require("jar"), arguments.getInt("port", 18080), List.of("-Xmx1g"),
+                    List.of("--spring.profiles.active=loadtest"));
+            app.awaitReady(client, authorization, Duration.ofMinutes(2));
+            baseUrl = app.baseUrl();
+        }
+        try {
+            String seeded = seed(client, baseUrl, authorization,
+                    arguments.getInt("items", 2000), arguments.getInt("customers", 10000));
+            BookingStormLoadTest test = new BookingStormLoadTest(client, baseUrl, authorization,
+                    arguments.getInt("maxInFlight", 2000), ids(seeded, "itemIds"), ids(seeded, "customerIds"));
+            System.out.printf("데이터 생성 완료 - 장비 %d건, 고객 %d건%n", test.itemIds.length, test.customerIds.length);
+
+            test.run(rates, warmup, false);
+            List<LatencyRecorder.Summary> summaries = test.run(rates, duration, true);
+
+            System.out.printf("%n측정 %d초, 목표 속도(건/초) %s%n", duration.toSeconds(), rates);
+            System.out.println(LatencyRecorder.Summary.header());
+            summaries.forEach(System.out::println);
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+    }
+
+    /**
+     * 작업마다 목표 속도로 요청을 내보내는 스레드를 두고 기간 동안 실행
+     */
+    private List<LatencyRecorder.Summary> run(Map<String, Double> rates, Duration duration, boolean measure)
+            throws InterruptedException {
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        rates.keySet().forEach(name -> recorders.put(name, new LatencyRecorder(name)));
+        LatencyRecorder total = new LatencyRecorder("total");
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + duration.toNanos();
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Thread> pacers = new ArrayList<>();
+            for (Map.Entry<String, Double> rate : rates.entrySet()) {
+                if (rate.getValue() <= 0) {
+                    continue;
+                }
+                LatencyRecorder recorder = recorders.get(rate.getKey());
+                long intervalNanos = (long) (1_000_000_000L / rate.getValue());
+                pacers.add(Thread.ofPlatform().name("pacer-" + rate.getKey()).start(() -> {
+                    long next = System.nanoTime();
+                    while (next < deadline) {
+                        long wait = next - System.nanoTime();
+                        if (wait > 0) {
+                            LockSupport.parkNanos(wait);
+                        }
+                        if (!inFlight.tryAcquire()) {
+                            recorder.recordError();     // 동시 요청 한도 초과 (서버가 밀리는 중)
+                            total.recordError();
+                        } else {
+                            requests.submit(() -> {
+                                try {
+                                    execute(rate.getKey(), recorder, total);
+                                } finally {
+                                    inFlight.release();
+                                }
+                            });
+                        }
+                        next += intervalNanos;
+                    }
+                }));
+            }
+            for (Thread pacer : pacers) {
+                pacer.join();
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        List<LatencyRecorder.Summary> summaries = new ArrayList<>();
+        if (measure) {
+            recorders.values().forEach(recorder -> summaries.add(recorder.summarize(elapsedSeconds)));
+            summaries.add(total.summarize(elapsedSeconds));
+        }
+        return summaries;
+    }
+
+    private void execute(String operation, LatencyRecorder recorder, LatencyRecorder total) {
+        switch (operation) {
+            case "browse" -> browse(recorder, total);
+            case "create" -> create(recorder, total);
+            case "approve" -> advance(pending, "approve", approved, recorder, total);
+            case "start" -> advance(approved, "start", inProgress, recorder, total);
+            case "extend" -> extend(recorder, total);
+            case "return" -> complete(recorder, total);
+            default -> throw new IllegalArgumentException("알 수 없는 작업입니다. " + operation);
+        }
+    }
+
+    private void browse(LatencyRecorder recorder, LatencyRecorder total) {
+        String category = CATEGORIES[ThreadLocalRandom.current().nextInt(CATEGORIES.length)];
+        send(get("/api/camping-items/page?size=20&category=" + category), recorder, total);
+    }
+
+    private void create(LatencyRecorder recorder, LatencyRecorder total) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate startDate = seasonStart.plusDays(random.nextInt(62));
+        LocalDate endDate = startDate.plusDays(1 + random.nextInt(4));
+        String body = String.format(
+                "{\"itemId\":%d,\"customerId\":%d,\"startDate\":\"%s\",\"endDate\":\"%s\",\"deposit\":50000}",
+                itemIds[random.nextInt(itemIds.length)], customerIds[random.nextInt(customerIds.length)],
+                startDate, endDate);
+        HttpResponse<String> response = send(post("/api/rentals", body), recorder, total);
+        if (response != null) {
+            Matcher matcher = ID_PATTERN.matcher(response.body());
+            if (matcher.find()) {
+                pending.add(new Booking(Long.parseLong(matcher.group(1)), endDate));
+            }
+        }
+    }
+
+    private void extend(LatencyRecorder recorder, LatencyRecorder total) {
+        Booking rental = inProgress.poll();
+        if (rental == null) {
+            return;
+        }
+        LocalDate newEndDate = rental.endDate().plusDays(1 + ThreadLocalRandom.current().nextInt(3));
+        if (send(post("/api/rentals/" + rental.id() + "/extend?newEndDate=" + newEndDate, ""), recorder, total) != null) {
+            inProgress.add(new Booking(rental.id(), newEndDate));
+        } else {
+            inProgress.add(rental);
+        }
+    }
+
+    private void complete(LatencyRecorder recorder, LatencyRecorder total) {
+        Booking rental = inProgress.poll();
+        if (rental == null) {
+            return;
+        }
+        send(post("/api/rentals/" + rental.id() + "/complete?returnDate=" + rental.endDate(), ""), recorder, total);
+    }
+
+    /**
+     * 앞 단계 대여 하나를 다음 상태로 (처리할 대여가 아직 없으면 건너뜀)
+     */
+    private void advance(ConcurrentLinkedQueue<Booking> from, String action, ConcurrentLinkedQueue<Booking> to,
+                         LatencyRecorder recorder, LatencyRecorder total) {
+        Booking rental = from.poll();
+        if (rental == null) {
+            return;
+        }
+        if (send(post("/api/rentals/" + rental.id() + "/" + action, ""), recorder, total) != null) {
+            to.add(rental);
+        }
+    }
+
+    /**
+     * @return 2xx 응답이면 응답, 아니면 null (오류로 기록)
+     */
+    private HttpResponse<String> send(HttpRequest request, LatencyRecorder recorder, LatencyRecorder total) {
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            long latency = System.nanoTime() - startedAt;
+            if (response.statusCode() / 100 == 2) {
+                recorder.record(latency);
+                total.record(latency);
+                return response;
+            }
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        recorder.recordError();
+        total.recordError();
+        return null;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", authorization)
+                .timeout(Duration.ofSeconds(30))
+                .build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", authorization)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    static String seed(HttpClient client, String baseUrl, String authorization, int items, int customers)
+            throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create(baseUrl + "/api/loadtest/seed?items=" + items + "&customers=" + customers))
+                .header("Authorization", authorization)
+                .timeout(Duration.ofMinutes(5))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("데이터 생성 실패 - status=" + response.statusCode() + ", body=" + response.body());
+        }
+        return response.body();
+    }
+
+    /**
+     * 응답 JSON 에서 ID 배열 추출 (부하 생성기는 애플리케이션 의존성 없이 JDK 만 사용)
+     */
+    private static long[] ids(String json, String field) {
+        Matcher matcher = IDS_PATTERN.matcher(json);
+        while (matcher.find()) {
+            if (matcher.group(1).equals(field)) {
+                String values = matcher.group(2).trim();
+                if (values.isEmpty()) {
+                    break;
+                }
+                String[] parts = values.split(",");
+                long[] ids = new long[parts.length];
+                for (int i = 0; i < parts.length; i++) {
+                    ids[i] = Long.parseLong(parts[i].trim());
+                }
+                return ids;
+            }
+        }
+        throw new IllegalStateException(field + " 가 비어 있습니다.");
+    }
+
+    /**
+     * 생성한 대여 (연장/반납 날짜 계산용 종료일)
+     */
+    private record Booking(long id, LocalDate endDate) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.rental.camprent.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업별 응답 시간/오류 기록
+ */
+public class LatencyRecorder {
+
+    private final String name;
+    private final LongAdder errors = new LongAdder();
+    private long[] latencies = new long[1024];      // 나노초
+    private int size;
+
+    public LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    public synchronized void record(long latencyNanos) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = latencyNanos;
+    }
+
+    public void recordError() {
+        errors.increment();
+    }
+
+    public synchronized Summary summarize(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+        long errorCount = errors.sum();
+        long total = sorted.length + errorCount;
+        return new Summary(
+                name,
+                sorted.length,
+                errorCount,
+                sorted.length / elapsedSeconds,
+                total == 0 ? 0 : (double) errorCount / total,
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.95),
+                percentileMillis(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    public record Summary(String name, long count, long errors, double throughput, double errorRate,
+                          double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+
+        public static String header() {
+            return String.format("%-24s %10s %8s %10s %8s %9s %9s %9s %9s",
+                    "operation", "count", "errors", "req/s", "err%", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-24s %10d %8d %10.1f %8.2f %9.1f %9.1f %9.1f %9.1f",
+                    name, count, errors, throughput, errorRate * 100, p50Millis, p95Millis, p99Millis, maxMillis);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.rental.camprent.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * key=value 형식 실행 인자
+ */
+public class LoadTestArgs {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    public LoadTestArgs(String[] args) {
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                values.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+    }
+
+    public String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    public String require(String key) {
+        String value = values.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException(key + " 인자가 필요합니다.");
+        }
+        return value;
+    }
+
+    public int getInt(String key, int defaultValue) {
+        String value = values.get(key);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        String value = values.get(key);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+}
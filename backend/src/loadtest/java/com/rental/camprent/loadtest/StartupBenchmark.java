@@ -0,0 +1,146 @@
+package com.rental.camprent.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 기본 모드 / 빠른 기동 모드(AOT + CDS + 지연 초기화) 기동 비교
+ * - 첫 요청 응답 시간: 프로세스 시작부터 카탈로그 조회가 처음 200 으로 응답할 때까지
+ * - 워밍업 곡선: 첫 응답 직후부터 초 단위로 처리량과 p99 지연 (JIT/지연 생성 빈 비용이 사라지는 과정)
+ * - 모드마다 여러 번 띄워 첫 요청 응답 시간은 중앙값, 워밍업 곡선은 평균으로 보고한다
+ *
+ * 인자: jar=<bootJar> fastJar=<추출된 jar> cdsArchive=<application.jsa>
+ *       runs=5 warmupSeconds=30 concurrency=8 port=18080
+ */
+public class StartupBenchmark {
+
+    private static final String PROBE_PATH = "/api/camping-items/page?size=20";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestArgs arguments = new LoadTestArgs(args);
+        int runs = arguments.getInt("runs", 5);
+        int warmupSeconds = arguments.getInt("warmupSeconds", 30);
+        int concurrency = arguments.getInt("concurrency", 8);
+        int port = arguments.getInt("port", 18080);
+        String authorization = ThreadModeComparison.basicAuth(
+                arguments.get("username", "loadtest"), arguments.get("password", "loadtest"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        Mode[] modes = {
+                new Mode("default", arguments.require("jar"), List.of("-Xmx1g"),
+                        List.of("--spring.profiles.active=loadtest")),
+                new Mode("faststart", arguments.require("fastJar"),
+                        List.of("-Xmx1g", "-XX:SharedArchiveFile=" + arguments.require("cdsArchive"), "-Dspring.aot.enabled=true"),
+                        List.of("--spring.profiles.active=faststart,loadtest"))
+        };
+
+        List<Result> results = new ArrayList<>();
+        for (Mode mode : modes) {
+            long[] firstResponseMillis = new long[runs];
+            double[][] throughput = new double[runs][];
+            double[][] p99Millis = new double[runs][];
+            for (int run = 0; run < runs; run++) {
+                try (AppProcess app = AppProcess.start(mode.jar(), port, mode.jvmArgs(), mode.appArgs())) {
+                    firstResponseMillis[run] = app.awaitFirstResponse(client, authorization, PROBE_PATH, Duration.ofMinutes(2)).toMillis();
+                    LatencyRecorder[] seconds = warmUp(client, app.baseUrl(), authorization, concurrency, warmupSeconds);
+                    throughput[run] = new double[warmupSeconds];
+                    p99Millis[run] = new double[warmupSeconds];
+                    for (int second = 0; second < warmupSeconds; second++) {
+                        LatencyRecorder.Summary summary = seconds[second].summarize(1.0);
+                        throughput[run][second] = summary.throughput();
+                        p99Millis[run][second] = summary.p99Millis();
+                    }
+                }
+                System.out.printf("%s #%d - 첫 요청 응답 %dms%n", mode.name(), run + 1, firstResponseMillis[run]);
+            }
+            results.add(new Result(mode.name(), firstResponseMillis, average(throughput), average(p99Millis)));
+        }
+
+        System.out.printf("%n첫 요청 응답 시간 (%d회)%n", runs);
+        System.out.printf("%-12s %10s %10s %10s%n", "mode", "median(ms)", "min(ms)", "max(ms)");
+        for (Result result : results) {
+            long[] sorted = result.firstResponseMillis().clone();
+            Arrays.sort(sorted);
+            System.out.printf("%-12s %10d %10d %10d%n", result.mode(), sorted[sorted.length / 2], sorted[0], sorted[sorted.length - 1]);
+        }
+
+        System.out.printf("%n워밍업 곡선 (동시 %d, 초별 평균)%n", concurrency);
+        StringBuilder header = new StringBuilder(String.format("%6s", "sec"));
+        results.forEach(result -> header.append(String.format(" %14s %14s", result.mode() + " req/s", result.mode() + " p99")));
+        System.out.println(header);
+        for (int second = 0; second < warmupSeconds; second++) {
+            StringBuilder line = new StringBuilder(String.format("%6d", second + 1));
+            for (Result result : results) {
+                line.append(String.format(" %14.1f %14.1f", result.throughput()[second], result.p99Millis()[second]));
+            }
+            System.out.println(line);
+        }
+    }
+
+    /**
+     * 첫 응답 직후부터 동시 접속으로 조회를 반복하며 초 단위로 지연을 나눠 기록
+     */
+    private static LatencyRecorder[] warmUp(HttpClient client, String baseUrl, String authorization,
+                                            int concurrency, int seconds) {
+        LatencyRecorder[] recorders = new LatencyRecorder[seconds];
+        for (int i = 0; i < seconds; i++) {
+            recorders[i] = new LatencyRecorder("second-" + (i + 1));
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + PROBE_PATH))
+                .header("Authorization", authorization)
+                .timeout(Duration.ofSeconds(30))
+                .build();
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + Duration.ofSeconds(seconds).toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long sentAt = System.nanoTime();
+                        int second = (int) Math.min(seconds - 1, (sentAt - startedAt) / 1_000_000_000L);
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status == 200) {
+                                recorders[second].record(System.nanoTime() - sentAt);
+                            } else {
+                                recorders[second].recordError();
+                            }
+                        } catch (Exception e) {
+                            recorders[second].recordError();
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        return recorders;
+    }
+
+    private static double[] average(double[][] values) {
+        double[] average = new double[values[0].length];
+        for (double[] run : values) {
+            for (int i = 0; i < run.length; i++) {
+                average[i] += run[i] / values.length;
+            }
+        }
+        return average;
+    }
+
+    private record Mode(String name, String jar, List<String> jvmArgs, List<String> appArgs) {
+    }
+
+    private record Result(String mode, long[] firstResponseMillis, double[] throughput, double[] p99Millis) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.rental.camprent.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 모드 비교
+ * - 같은 jar 를 모드별로 띄우고 동일한 동시 접속 부하(카탈로그 페이지 조회)를 걸어 처리량과 p99 지연을 비교한다
+ * - 모드마다 같은 장비 데이터를 만든 뒤 측정하고, 커넥션 풀/Tomcat 연결 한도도 같게 맞춰 스레드 모델만 다르게 한다
+ * - 요청마다 latencyMillis 만큼 서버에서 I/O 대기를 흉내 내고(커넥션은 잡지 않음), thinkMillis 로 클라이언트 대기 시간을 준다
+ *
+ * 인자: jar=<bootJar 경로> concurrency=2000 durationSeconds=30 warmupSeconds=10 latencyMillis=50 thinkMillis=100
+ *       items=2000 poolSize=40 port=18080
+ */
+public class ThreadModeComparison {
+
+    private static final String[] CATEGORIES = {
+            "TENT", "SLEEPING_BAG", "CAMP_STOVE", "CAMPING_FURNITURE", "COOKING_GEAR", "LIGHTING", "RAIN_GEAR", "COOLER"
+    };
+
+    public static void main(String[] args) throws Exception {
+        LoadTestArgs arguments = new LoadTestArgs(args);
+        String jar = arguments.require("jar");
+        int concurrency = arguments.getInt("concurrency", 2000);
+        Duration duration = Duration.ofSeconds(arguments.getInt("durationSeconds", 30));
+        Duration warmup = Duration.ofSeconds(arguments.getInt("warmupSeconds", 10));
+        int latencyMillis = arguments.getInt("latencyMillis", 50);
+        int thinkMillis = arguments.getInt("thinkMillis", 100);
+        int items = arguments.getInt("items", 2000);
+        int port = arguments.getInt("port", 18080);
+        // 두 모드에 같은 값을 넘김 (virtual 프로필의 기본값보다 우선)
+        List<String> sharedSettings = List.of(
+                "--spring.datasource.hikari.maximum-pool-size=" + arguments.getInt("poolSize", 40),
+                "--spring.datasource.hikari.connection-timeout=3000",
+                "--server.tomcat.max-connections=10000",
+                "--server.tomcat.accept-count=1000");
+        String authorization = basicAuth(arguments.get("username", "loadtest"), arguments.get("password", "loadtest"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        List<LatencyRecorder.Summary> summaries = new ArrayList<>();
+        for (String[] mode : new String[][]{{"platform-threads", "loadtest"}, {"virtual-threads", "loadtest,virtual"}}) {
+            List<String> appArgs = new ArrayList<>(sharedSettings);
+            appArgs.add("--spring.profiles.active=" + mode[1]);
+            try (AppProcess app = AppProcess.start(jar, port, List.of("-Xmx1g"), appArgs)) {
+                app.awaitReady(client, authorization, Duration.ofMinutes(2));
+                BookingStormLoadTest.seed(client, app.baseUrl(), authorization, items, 0);
+                String path = "/api/loadtest/catalog-page?size=20&latencyMillis=" + latencyMillis + "&category=";
+                run(client, app.baseUrl() + path, authorization, concurrency, warmup, thinkMillis, new LatencyRecorder("warmup"));
+
+                LatencyRecorder recorder = new LatencyRecorder(mode[0]);
+                run(client, app.baseUrl() + path, authorization, concurrency, duration, thinkMillis, recorder);
+                summaries.add(recorder.summarize(duration.toMillis() / 1000.0));
+            }
+        }
+
+        System.out.printf("%n동시 접속 %d, 측정 %d초, 장비 %d건, 서버 지연 %dms, 클라이언트 대기 %dms%n",
+                concurrency, duration.toSeconds(), items, latencyMillis, thinkMillis);
+        System.out.println(LatencyRecorder.Summary.header());
+        summaries.forEach(System.out::println);
+    }
+
+    /**
+     * @param categoryUrl 카테고리 값만 붙이면 되는 요청 URL
+     */
+    private static void run(HttpClient client, String categoryUrl, String authorization, int concurrency,
+                            Duration duration, int thinkMillis, LatencyRecorder recorder) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        String category = CATEGORIES[ThreadLocalRandom.current().nextInt(CATEGORIES.length)];
+                        HttpRequest request = HttpRequest.newBuilder(
+                                        URI.create(categoryUrl + category))
+                                .header("Authorization", authorization)
+                                .timeout(Duration.ofSeconds(30))
+                                .build();
+                        long startedAt = System.nanoTime();
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status == 200) {
+                                recorder.record(System.nanoTime() - startedAt);
+                            } else {
+                                recorder.recordError();
+                            }
+                        } catch (Exception e) {
+                            recorder.recordError();
+                        }
+                        if (thinkMillis > 0) {
+                            Thread.sleep(thinkMillis);
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+    }
+
+    static String basicAuth(String username, String password) {
+        return "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,55 @@
+package com.rental.camprent.config;
+
+import com.rental.camprent.service.catalog.InMemorySharedCatalogCache;
+import com.rental.camprent.service.catalog.RedisSharedCatalogCache;
+import com.rental.camprent.service.catalog.SharedCatalogCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 카탈로그 공유 캐시 구성 (camprent.catalog-cache.shared = memory | redis)
+ */
+@Configuration
+public class CatalogCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "camprent.catalog-cache.shared", havingValue = "memory", matchIfMissing = true)
+    public SharedCatalogCache inMemorySharedCatalogCache(
+            @Value("${camprent.catalog-cache.shared-ttl-seconds:300}") long ttlSeconds) {
+        return new InMemorySharedCatalogCache(Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "camprent.catalog-cache.shared", havingValue = "redis")
+    static class RedisCatalogCacheConfig {
+
+        @Bean
+        public RedisSharedCatalogCache redisSharedCatalogCache(
+                StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                @Value("${camprent.catalog-cache.shared-ttl-seconds:300}") long ttlSeconds) {
+            return new RedisSharedCatalogCache(redisTemplate, objectMapper, Duration.ofSeconds(ttlSeconds));
+        }
+
+        @Bean
+        public RedisMessageListenerContainer catalogInvalidationListenerContainer(
+                RedisConnectionFactory connectionFactory, RedisSharedCatalogCache sharedCatalogCache) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.addMessageListener(
+                    (message, pattern) -> sharedCatalogCache.onInvalidationMessage(
+                            new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(RedisSharedCatalogCache.INVALIDATION_CHANNEL));
+            return container;
+        }
+    }
+}
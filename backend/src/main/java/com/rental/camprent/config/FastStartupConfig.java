@@ -0,0 +1,41 @@
+package com.rental.camprent.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * 빠른 기동 모드 (--spring.profiles.active=faststart, spring.main.lazy-initialization=true)
+ * - 대부분의 빈은 처음 쓰일 때 만들지만, 아래 빈은 기동 시 바로 만든다
+ *   - EntityManagerFactory: Hibernate 메타모델을 미리 만들어 첫 요청이 ORM 부트스트랩 비용을 떠안지 않게 한다
+ *   - @Scheduled 메서드가 있는 빈: 지연 생성되면 스케줄 등록 자체가 되지 않는다
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("faststart")
+public class FastStartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerPersistenceBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(EntityManagerFactory.class);
+    }
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerScheduledBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType != null && hasScheduledMethod(beanType);
+    }
+
+    private static boolean hasScheduledMethod(Class<?> beanType) {
+        Map<Method, Scheduled> methods = MethodIntrospector.selectMethods(beanType,
+                (MethodIntrospector.MetadataLookup<Scheduled>) method ->
+                        AnnotatedElementUtils.findMergedAnnotation(method, Scheduled.class));
+        return !methods.isEmpty();
+    }
+}
@@ -0,0 +1,12 @@
+package com.rental.camprent.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 배치성 작업 스케줄링 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
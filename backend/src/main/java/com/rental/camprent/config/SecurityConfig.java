@@ -0,0 +1,58 @@
+package com.rental.camprent.config;
+
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * 보안 설정 (HTTP Basic, 세션 없음)
+ * - 요청마다 인증하므로 사용자 조회는 CachingUserDetailsService 의 캐시를 거친다
+ * - /api/users/** 는 관리자만, 헬스 체크는 인증 없이 허용 (그 외 actuator 는 관리자만)
+ * - 사용자와 고객이 연결되어 있지 않아 소유자 확인을 할 수 없으므로, 고객 개인정보가 담긴 조회(대여 목록/내보내기, 고객별 대여/통계)는 관리자만
+ * - 장비 등록/수정/상태/재고 변경과 대여 상태 전이(승인/시작/반납/취소/연장)도 관리자만
+ * - 일반 사용자는 장비 조회, 가격 견적, 대여 신청(단건/대기열/패키지)과 연장 견적 조회만 할 수 있다
+ * - 비동기 디스패치(SSE 스트림 등)는 최초 요청에서 이미 인가되었으므로 다시 검사하지 않는다
+ */
+@Configuration
+public class SecurityConfig {
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        http
+                .csrf(csrf -> csrf.ignoringRequestMatchers("/api/**"))
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+                        .requestMatchers("/api/users/**").hasRole("ADMIN")
+                        .requestMatchers("/api/analytics/**").hasRole("ADMIN")
+                        .requestMatchers("/api/settlements/**").hasRole("ADMIN")
+                        .requestMatchers("/api/loadtest/**").hasRole("ADMIN")
+                        .requestMatchers("/api/customers/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/camping-items/**").authenticated()
+                        .requestMatchers("/api/camping-items/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/rentals", "/api/rentals/admissions", "/api/rentals/packages").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/rentals/admissions/*", "/api/rentals/*/extension-quotes").authenticated()
+                        .requestMatchers("/api/rentals/**").hasRole("ADMIN")
+                        .anyRequest().authenticated())
+                .httpBasic(Customizer.withDefaults());
+        return http.build();
+    }
+
+    /**
+     * BCrypt 비용은 해시에 기록되므로, 요청마다 검증하는 부하 테스트 계정은 낮은 비용으로 만든다
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${camprent.security.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+}
@@ -0,0 +1,40 @@
+package com.rental.camprent.controller;
+
+import com.rental.camprent.dto.response.RentalAnalyticsResponse;
+import com.rental.camprent.service.analytics.RentalAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final RentalAnalyticsService rentalAnalyticsService;
+
+    /**
+     * 카테고리 x 시즌 x 월 대여 일수/매출/가동률 (예: from=2025-01&to=2025-12)
+     */
+    @GetMapping("/rentals")
+    public RentalAnalyticsResponse rentals(@RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+                                           @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        return rentalAnalyticsService.report(from, to);
+    }
+
+    /**
+     * 분석 스냅샷 전체 재적재
+     */
+    @PostMapping("/rentals/reload")
+    public Map<String, Integer> reload() {
+        rentalAnalyticsService.reload();
+        return Map.of("rentals", rentalAnalyticsService.snapshotSize());
+    }
+}
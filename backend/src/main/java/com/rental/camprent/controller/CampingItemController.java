@@ -0,0 +1,143 @@
+package com.rental.camprent.controller;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import com.rental.camprent.domain.campingitem.CampingItemStatus;
+import com.rental.camprent.dto.request.CampingItemCreateRequest;
+import com.rental.camprent.dto.request.CampingItemUpdateRequest;
+import com.rental.camprent.dto.request.StatusUpdateRequest;
+import com.rental.camprent.dto.request.StockUpdateRequest;
+import com.rental.camprent.dto.response.CampingItemResponse;
+import com.rental.camprent.dto.response.CatalogImportResponse;
+import com.rental.camprent.dto.response.CatalogPageResponse;
+import com.rental.camprent.service.CampingItemService;
+import com.rental.camprent.service.catalog.CatalogImportService;
+import com.rental.camprent.service.catalog.CatalogPageService;
+import com.rental.camprent.service.catalog.CatalogQueryService;
+import com.rental.camprent.service.inventory.InventoryStreamService;
+import com.rental.camprent.service.search.CatalogSearchService;
+import com.rental.camprent.service.stock.StockReservationService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/camping-items")
+@RequiredArgsConstructor
+public class CampingItemController {
+
+    private final CampingItemService campingItemService;
+    private final CatalogQueryService catalogQueryService;
+    private final CatalogPageService catalogPageService;
+    private final CatalogImportService catalogImportService;
+    private final CatalogSearchService catalogSearchService;
+    private final StockReservationService stockReservationService;
+    private final InventoryStreamService inventoryStreamService;
+
+    /**
+     * 카테고리/상태별 장비 목록
+     */
+    @GetMapping
+    public List<CampingItemResponse> list(@RequestParam(required = false) CampingCategory category,
+                                          @RequestParam(required = false) CampingItemStatus status) {
+        if (category != null && status != null) {
+            return catalogQueryService.findByCategoryAndStatus(category, status);
+        }
+        if (category != null) {
+            return catalogQueryService.findByCategory(category);
+        }
+        if (status != null) {
+            return catalogQueryService.findByStatus(status);
+        }
+        throw new IllegalArgumentException("카테고리 또는 상태를 지정해야 합니다.");
+    }
+
+    /**
+     * 카테고리별 장비 페이지 (키셋 페이징)
+     */
+    @GetMapping("/page")
+    public CatalogPageResponse page(@RequestParam CampingCategory category,
+                                    @RequestParam(required = false) CampingItemStatus status,
+                                    @RequestParam(required = false) String cursor,
+                                    @RequestParam(defaultValue = "20") int size) {
+        return catalogPageService.findPage(category, status, cursor, size);
+    }
+
+    /**
+     * 장비 검색 (이름/모델/설명, 순위순)
+     */
+    @GetMapping("/search")
+    public List<CampingItemResponse> search(@RequestParam("q") String query,
+                                            @RequestParam(required = false) CampingCategory category,
+                                            @RequestParam(required = false) CampingItemStatus status,
+                                            @RequestParam(defaultValue = "10") int limit) {
+        return catalogSearchService.search(query, category, status, limit);
+    }
+
+    /**
+     * 재고 변경 스트림 (SSE, category 를 여러 번 지정 가능, 없으면 전체) - 연결 후 목록을 한 번 조회하고 이후 변경분만 반영
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(name = "category", required = false) List<CampingCategory> categories) {
+        return inventoryStreamService.subscribe(categories);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public CampingItemResponse create(@Valid @RequestBody CampingItemCreateRequest request) {
+        return campingItemService.create(request);
+    }
+
+    /**
+     * 장비 일괄 등록 (JSON 배열)
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public CatalogImportResponse importJson(HttpServletRequest request) throws IOException {
+        return catalogImportService.importJson(request.getInputStream());
+    }
+
+    /**
+     * 장비 일괄 등록 (CSV)
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public CatalogImportResponse importCsv(HttpServletRequest request) throws IOException {
+        return catalogImportService.importCsv(request.getInputStream());
+    }
+
+    @PutMapping("/{itemId}")
+    public CampingItemResponse updateInfo(@PathVariable Long itemId,
+                                          @Valid @RequestBody CampingItemUpdateRequest request) {
+        return campingItemService.updateInfo(itemId, request);
+    }
+
+    @PatchMapping("/{itemId}/status")
+    public CampingItemResponse updateStatus(@PathVariable Long itemId,
+                                            @Valid @RequestBody StatusUpdateRequest request) {
+        return campingItemService.updateStatus(itemId, request.getStatus());
+    }
+
+    @PostMapping("/{itemId}/stock/increase")
+    public void increaseStock(@PathVariable Long itemId, @Valid @RequestBody StockUpdateRequest request) {
+        stockReservationService.release(itemId, request.getQuantity());
+    }
+
+    @PostMapping("/{itemId}/stock/decrease")
+    public void decreaseStock(@PathVariable Long itemId, @Valid @RequestBody StockUpdateRequest request) {
+        stockReservationService.reserve(itemId, request.getQuantity());
+    }
+}
@@ -0,0 +1,51 @@
+package com.rental.camprent.controller;
+
+import com.rental.camprent.dto.response.CustomerStatsResponse;
+import com.rental.camprent.dto.response.RentalSummaryResponse;
+import com.rental.camprent.service.RentalQueryService;
+import com.rental.camprent.service.customerstats.CustomerStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/customers")
+@RequiredArgsConstructor
+public class CustomerController {
+
+    private final CustomerStatsService customerStatsService;
+    private final RentalQueryService rentalQueryService;
+
+    /**
+     * 고객 대여 이력 (보관된 오래된 대여 포함, 최근 시작일 순)
+     */
+    @GetMapping("/{customerId}/rentals")
+    public Page<RentalSummaryResponse> rentals(@PathVariable Long customerId,
+                                               @PageableDefault(size = 20) Pageable pageable) {
+        return rentalQueryService.findCustomerHistory(customerId, pageable);
+    }
+
+    /**
+     * 고객 대여 통계 (대여 건수, 총 이용 금액, 진행 중/연체 건수, 마지막 대여일)
+     */
+    @GetMapping("/{customerId}/stats")
+    public CustomerStatsResponse stats(@PathVariable Long customerId) {
+        return CustomerStatsResponse.from(customerStatsService.getStats(customerId));
+    }
+
+    /**
+     * 고객 대여 통계 전체 재구축
+     */
+    @PostMapping("/stats/rebuild")
+    public Map<String, Integer> rebuildStats() {
+        return Map.of("customers", customerStatsService.rebuild());
+    }
+}
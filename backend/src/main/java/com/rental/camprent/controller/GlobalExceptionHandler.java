@@ -0,0 +1,29 @@
+package com.rental.camprent.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 도메인 예외 -> HTTP 응답 변환
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    /**
+     * 잘못된 요청 값 (존재하지 않는 ID, 잘못된 기간 등)
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail handleIllegalArgument(IllegalArgumentException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    /**
+     * 현재 상태에서 처리할 수 없는 요청 (재고 부족, 상태 전이 불가 등)
+     */
+    @ExceptionHandler(IllegalStateException.class)
+    public ProblemDetail handleIllegalState(IllegalStateException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+    }
+}
@@ -0,0 +1,49 @@
+package com.rental.camprent.controller;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import com.rental.camprent.dto.response.CatalogPageResponse;
+import com.rental.camprent.dto.response.LoadTestSeedResponse;
+import com.rental.camprent.service.catalog.CatalogPageService;
+import com.rental.camprent.service.loadtest.LoadTestDataSeeder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/loadtest")
+@Profile("loadtest")
+@RequiredArgsConstructor
+public class LoadTestController {
+
+    private final LoadTestDataSeeder loadTestDataSeeder;
+    private final CatalogPageService catalogPageService;
+
+    /**
+     * 부하 테스트 데이터 생성 (장비/고객)
+     */
+    @PostMapping("/seed")
+    public LoadTestSeedResponse seed(@RequestParam(defaultValue = "2000") int items,
+                                     @RequestParam(defaultValue = "10000") int customers,
+                                     @RequestParam(defaultValue = "42") long seed) {
+        return loadTestDataSeeder.seed(items, customers, seed);
+    }
+
+    /**
+     * 카테고리별 장비 페이지 + 외부 호출 지연 (스레드 모드 비교용)
+     * - 조회 트랜잭션이 끝난 뒤 latencyMillis 만큼 요청 스레드를 막아, 커넥션은 잡지 않고 스레드만 붙잡는 I/O 대기를 흉내 낸다
+     */
+    @GetMapping("/catalog-page")
+    public CatalogPageResponse catalogPage(@RequestParam CampingCategory category,
+                                           @RequestParam(defaultValue = "20") int size,
+                                           @RequestParam(defaultValue = "0") long latencyMillis) throws InterruptedException {
+        CatalogPageResponse page = catalogPageService.findPage(category, null, null, size);
+        if (latencyMillis > 0) {
+            Thread.sleep(latencyMillis);
+        }
+        return page;
+    }
+}
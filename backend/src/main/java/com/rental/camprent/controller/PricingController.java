@@ -0,0 +1,29 @@
+package com.rental.camprent.controller;
+
+import com.rental.camprent.dto.request.PriceQuoteRequest;
+import com.rental.camprent.dto.response.PriceQuoteResponse;
+import com.rental.camprent.service.PricingService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/pricing")
+@RequiredArgsConstructor
+public class PricingController {
+
+    private final PricingService pricingService;
+
+    /**
+     * 여러 장비 대여료 일괄 견적
+     */
+    @PostMapping("/quotes")
+    public List<PriceQuoteResponse> quote(@Valid @RequestBody PriceQuoteRequest request) {
+        return pricingService.quote(request);
+    }
+}
@@ -0,0 +1,173 @@
+package com.rental.camprent.controller;
+
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import com.rental.camprent.dto.request.PackageReservationRequest;
+import com.rental.camprent.dto.request.RentalCreateRequest;
+import com.rental.camprent.dto.response.AdmissionResponse;
+import com.rental.camprent.dto.response.ExtensionQuoteResponse;
+import com.rental.camprent.dto.response.PackageReservationResponse;
+import com.rental.camprent.dto.response.RentalSummaryResponse;
+import com.rental.camprent.service.PricingService;
+import com.rental.camprent.service.RentalQueryService;
+import com.rental.camprent.service.RentalService;
+import com.rental.camprent.service.admission.BookingAdmissionService;
+import com.rental.camprent.service.export.RentalExportFormat;
+import com.rental.camprent.service.export.RentalExportService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/rentals")
+@RequiredArgsConstructor
+public class RentalController {
+
+    private final RentalService rentalService;
+    private final RentalQueryService rentalQueryService;
+    private final PricingService pricingService;
+    private final RentalExportService rentalExportService;
+    private final BookingAdmissionService bookingAdmissionService;
+
+    /**
+     * 대여 목록 (장비명, 고객 연락처 포함)
+     */
+    @GetMapping
+    public Page<RentalSummaryResponse> list(@RequestParam(required = false) RentalStatus status,
+                                            @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
+        return rentalQueryService.findSummaries(status, pageable);
+    }
+
+    /**
+     * 대여 신청
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Map<String, Long> create(@Valid @RequestBody RentalCreateRequest request) {
+        return Map.of("id", rentalService.create(request));
+    }
+
+    /**
+     * 성수기 대여 신청 (장비별 대기열 접수)
+     * - 201 배정 완료, 202 대기 중(ticketId 로 결과 조회), 409 매진, 429 대기열 가득 참
+     */
+    @PostMapping("/admissions")
+    public ResponseEntity<AdmissionResponse> admit(@Valid @RequestBody RentalCreateRequest request) {
+        AdmissionResponse response = bookingAdmissionService.submit(request);
+        return switch (response.getStatus()) {
+            case ACCEPTED -> ResponseEntity.status(HttpStatus.CREATED).body(response);
+            case QUEUED -> ResponseEntity.accepted().body(response);
+            case SOLD_OUT -> ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+            case REJECTED -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(response);
+            case FAILED -> ResponseEntity.internalServerError().body(response);
+        };
+    }
+
+    /**
+     * 대여 신청 접수 결과 조회
+     */
+    @GetMapping("/admissions/{ticketId}")
+    public AdmissionResponse admission(@PathVariable Long ticketId) {
+        return bookingAdmissionService.getResult(ticketId);
+    }
+
+    /**
+     * 패키지(묶음) 예약 - 구성 장비 전체를 같은 기간으로 한 번에 승인
+     */
+    @PostMapping("/packages")
+    @ResponseStatus(HttpStatus.CREATED)
+    public PackageReservationResponse reservePackage(@Valid @RequestBody PackageReservationRequest request) {
+        return rentalService.reservePackage(request);
+    }
+
+    /**
+     * 대여 승인
+     */
+    @PostMapping("/{rentalId}/approve")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void approve(@PathVariable Long rentalId) {
+        rentalService.approve(rentalId);
+    }
+
+    /**
+     * 대여 시작
+     */
+    @PostMapping("/{rentalId}/start")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void start(@PathVariable Long rentalId) {
+        rentalService.start(rentalId);
+    }
+
+    /**
+     * 반납 처리 (반납일을 주지 않으면 오늘)
+     */
+    @PostMapping("/{rentalId}/complete")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void complete(@PathVariable Long rentalId,
+                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate returnDate) {
+        rentalService.complete(rentalId, returnDate != null ? returnDate : LocalDate.now());
+    }
+
+    /**
+     * 대여 취소
+     */
+    @PostMapping("/{rentalId}/cancel")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void cancel(@PathVariable Long rentalId) {
+        rentalService.cancel(rentalId);
+    }
+
+    /**
+     * 대여 기간 연장
+     */
+    @PostMapping("/{rentalId}/extend")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void extend(@PathVariable Long rentalId,
+                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate newEndDate) {
+        rentalService.extend(rentalId, newEndDate);
+    }
+
+    /**
+     * 대여 연장 견적 (예: ?days=1&days=3&days=7, 대여는 변경하지 않음)
+     */
+    @GetMapping("/{rentalId}/extension-quotes")
+    public ExtensionQuoteResponse extensionQuotes(@PathVariable Long rentalId,
+                                                  @RequestParam List<Integer> days) {
+        return pricingService.quoteExtension(rentalId, days);
+    }
+
+    /**
+     * 대여 이력 전체 내보내기 (NDJSON / CSV 스트리밍)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "NDJSON") RentalExportFormat format) {
+        StreamingResponseBody body = outputStream -> rentalExportService.export(format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=rentals." + format.getExtension())
+                .body(body);
+    }
+}
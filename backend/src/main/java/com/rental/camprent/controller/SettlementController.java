@@ -0,0 +1,39 @@
+package com.rental.camprent.controller;
+
+import com.rental.camprent.dto.response.SettlementRunResponse;
+import com.rental.camprent.service.settlement.SettlementJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/settlements")
+@RequiredArgsConstructor
+public class SettlementController {
+
+    private final SettlementJob settlementJob;
+
+    /**
+     * 반납일 기준 기간 정산 실행 (같은 기간의 미완료 정산이 있으면 이어서 처리)
+     */
+    @PostMapping("/runs")
+    public SettlementRunResponse run(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return SettlementRunResponse.from(settlementJob.settle(from, to));
+    }
+
+    /**
+     * 정산 실행 조회
+     */
+    @GetMapping("/runs/{id}")
+    public SettlementRunResponse get(@PathVariable Long id) {
+        return SettlementRunResponse.from(settlementJob.getRun(id));
+    }
+}
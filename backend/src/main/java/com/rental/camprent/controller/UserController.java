@@ -0,0 +1,35 @@
+package com.rental.camprent.controller;
+
+import com.rental.camprent.dto.request.PasswordChangeRequest;
+import com.rental.camprent.service.user.UserAccountService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class UserController {
+
+    private final UserAccountService userAccountService;
+
+    @PostMapping("/{username}/disable")
+    public void disable(@PathVariable String username) {
+        userAccountService.disable(username);
+    }
+
+    @PostMapping("/{username}/enable")
+    public void enable(@PathVariable String username) {
+        userAccountService.enable(username);
+    }
+
+    @PutMapping("/{username}/password")
+    public void changePassword(@PathVariable String username, @Valid @RequestBody PasswordChangeRequest request) {
+        userAccountService.changePassword(username, request.getPassword());
+    }
+}
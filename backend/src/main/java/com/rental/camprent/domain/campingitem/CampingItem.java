@@ -1,6 +1,7 @@
 package com.rental.camprent.domain.campingitem;
 
 import com.rental.camprent.domain.common.Season;
+import com.rental.camprent.domain.common.SeasonCalendar;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -15,13 +16,16 @@ import java.time.LocalDateTime;
  * 캠핑 장비 엔티티
  */
 @Entity
-@Table(name = "camping_items")
+@Table(name = "camping_items", indexes = {
+        @Index(name = "idx_camping_items_category_status_id", columnList = "category, status, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CampingItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "camping_item_seq")
+    @SequenceGenerator(name = "camping_item_seq", sequenceName = "camping_items_seq", allocationSize = 50)   // JDBC 배치 insert 가능하도록 pooled 시퀀스
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -52,6 +56,9 @@ public class CampingItem {
 
     private LocalDateTime updatedAt;    // 수정일시
 
+    @Version
+    private Long version;               // 낙관적 락 버전 (재고 동시 변경 감지)
+
     @Builder
     public CampingItem(String name, CampingCategory category, String model, String description,
                        Integer stockQuantity, BigDecimal baseDailyRate, CampingItemStatus status) {
@@ -75,11 +82,18 @@ public class CampingItem {
         Season season = Season.fromDate(date);
         if(season.isPeakSeason()) {
             //성수기 : 50% 할증
-            return baseDailyRate.multiply(BigDecimal.valueOf(1.5));
+            return baseDailyRate.multiply(season.getRateMultiplier());
         }
         return baseDailyRate;
     }
 
+    /**
+     * 기간 총 대여료 계산 (시작일, 종료일 포함 / 계절별 요금 반영)
+     */
+    public BigDecimal calculateRentalCost(LocalDate startDate, LocalDate endDate) {
+        return SeasonCalendar.calculateCost(baseDailyRate, startDate, endDate);
+    }
+
     /**
      *  장비 정보 수정
      */
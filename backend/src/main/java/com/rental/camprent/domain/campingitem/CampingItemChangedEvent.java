@@ -0,0 +1,16 @@
+package com.rental.camprent.domain.campingitem;
+
+/**
+ * 장비 정보/상태/재고 변경 이벤트
+ *
+ * @param previousStatus 변경 전 상태 (신규 등록이면 null)
+ */
+public record CampingItemChangedEvent(Long itemId,
+                                      CampingCategory category,
+                                      CampingItemStatus previousStatus,
+                                      CampingItemStatus status) {
+
+    public static CampingItemChangedEvent of(CampingItem item, CampingItemStatus previousStatus) {
+        return new CampingItemChangedEvent(item.getId(), item.getCategory(), previousStatus, item.getStatus());
+    }
+}
@@ -1,7 +1,14 @@
 package com.rental.camprent.domain.campingitem;
 
+import com.rental.camprent.dto.response.CampingItemResponse;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 
@@ -10,5 +17,39 @@ public interface CampingItemRepository extends JpaRepository<CampingItem, Long>
     List<CampingItem> findByCategory(CampingCategory category);
     List<CampingItem> findByStatus(CampingItemStatus status);
     List<CampingItem> findByCategoryAndStatus(CampingCategory category, CampingItemStatus status);
+    List<CampingItem> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    /**
+     * 카탈로그 페이지 조회 (키셋 페이징, 응답 DTO 로 바로 조회)
+     * - (category, status, id) 인덱스를 afterId 다음부터 순서대로 읽는다
+     */
+    @Query("select new com.rental.camprent.dto.response.CampingItemResponse(" +
+            "i.id, i.name, i.category, i.model, i.description, i.stockQuantity, i.baseDailyRate, i.status, i.createdAt, i.updatedAt) " +
+            "from CampingItem i where i.category = :category and i.status = :status and i.id > :afterId order by i.id")
+    List<CampingItemResponse> findPageByCategoryAndStatus(@Param("category") CampingCategory category,
+                                                          @Param("status") CampingItemStatus status,
+                                                          @Param("afterId") Long afterId,
+                                                          Pageable pageable);
+
+    /**
+     * 여러 장비 행 잠금 (쿼리 1회, ID 오름차순으로 잠가 묶음 예약끼리 교착 상태 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from CampingItem i where i.id in :ids order by i.id")
+    List<CampingItem> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 상태별 장비 수 (메트릭 게이지용)
+     */
+    @Query("select new com.rental.camprent.domain.campingitem.ItemStatusCount(i.status, count(i)) " +
+            "from CampingItem i group by i.status")
+    List<ItemStatusCount> countGroupByStatus();
+
+    /**
+     * 카테고리별 보유 수량 합계 (가동률 계산용)
+     */
+    @Query("select new com.rental.camprent.domain.campingitem.CategoryStock(i.category, sum(i.stockQuantity)) " +
+            "from CampingItem i group by i.category")
+    List<CategoryStock> sumStockGroupByCategory();
 
 }
@@ -0,0 +1,12 @@
+package com.rental.camprent.domain.campingitem;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 장비 일괄 등록 이벤트 (커밋된 청크 단위)
+ */
+public record CampingItemsImportedEvent(List<Long> itemIds,
+                                        Set<CampingCategory> categories,
+                                        Set<CampingItemStatus> statuses) {
+}
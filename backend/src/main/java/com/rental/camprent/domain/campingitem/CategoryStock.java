@@ -0,0 +1,7 @@
+package com.rental.camprent.domain.campingitem;
+
+/**
+ * 카테고리별 보유 수량 합계
+ */
+public record CategoryStock(CampingCategory category, Long stockQuantity) {
+}
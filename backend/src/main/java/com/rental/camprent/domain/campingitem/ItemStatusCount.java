@@ -0,0 +1,7 @@
+package com.rental.camprent.domain.campingitem;
+
+/**
+ * 상태별 장비 수
+ */
+public record ItemStatusCount(CampingItemStatus status, Long count) {
+}
@@ -0,0 +1,65 @@
+package com.rental.camprent.domain.campingrental;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 보관(cold) 대여 - 종료된 지 오래된 대여를 rentals 에서 옮겨 둔 읽기 전용 행
+ * - ID 는 원래 대여 ID 그대로, 장비/고객은 연관 없이 ID 만 보관 (INSERT ... SELECT 로만 생성)
+ */
+@Entity
+@Table(name = "archived_rentals", indexes = {
+        @Index(name = "idx_archived_rentals_customer_id", columnList = "customer_id, start_date")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedRental {
+
+    @Id
+    private Long id;                    // 원래 대여 ID
+
+    @Column(name = "machine_id", nullable = false)
+    private Long itemId;                // 대여 기계 ID
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;            // 대여 고객 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private CampingCategory category;   // 보관 시점 장비 카테고리
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;        // 대여 시작일
+
+    @Column(nullable = false)
+    private LocalDate endDate;          // 대여 종료일
+
+    private LocalDate actualReturnDate; // 실제 반납일
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalCost;       // 총 대여 비용
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal deposit;         // 보증금
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RentalStatus status;        // 대여 상태 (종료 상태만)
+
+    @Column(length = 500)
+    private String notes;               // 비고(특이사항)
+
+    private LocalDateTime createdAt;    // 신청일시
+
+    private LocalDateTime updatedAt;    // 마지막 수정일시
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;   // 보관일시
+}
@@ -0,0 +1,81 @@
+package com.rental.camprent.domain.campingrental;
+
+import com.rental.camprent.dto.response.RentalExportRow;
+import com.rental.camprent.dto.response.RentalSummaryResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ArchivedRentalRepository extends JpaRepository<ArchivedRental, Long> {
+
+    /**
+     * 대여를 보관 테이블로 복사 (INSERT ... SELECT, 엔티티 로딩 없음)
+     */
+    @Modifying
+    @Query("insert into ArchivedRental (id, itemId, customerId, category, startDate, endDate, actualReturnDate, " +
+            "totalCost, deposit, status, notes, createdAt, updatedAt, archivedAt) " +
+            "select r.id, i.id, r.customer.id, i.category, r.startDate, r.endDate, r.actualReturnDate, " +
+            "r.totalCost, r.deposit, r.status, r.notes, r.createdAt, r.updatedAt, :now " +
+            "from Rental r join r.machine i where r.id in :ids")
+    int copyFromRentals(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 고객 대여 이력 (최근 시작일 순)
+     */
+    @Query("select new com.rental.camprent.dto.response.RentalSummaryResponse(" +
+            "a.id, a.status, a.startDate, a.endDate, a.totalCost, i.id, i.name, c.id, c.name, c.phone) " +
+            "from ArchivedRental a join CampingItem i on i.id = a.itemId join Customer c on c.id = a.customerId " +
+            "where a.customerId = :customerId order by a.startDate desc, a.id desc")
+    List<RentalSummaryResponse> findCustomerHistory(@Param("customerId") Long customerId, Pageable pageable);
+
+    long countByCustomerId(Long customerId);
+
+    /**
+     * 보관 대여 내보내기 (RentalRepository.streamExportRows 와 같은 형식)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.rental.camprent.dto.response.RentalExportRow(" +
+            "a.id, a.status, a.startDate, a.endDate, a.actualReturnDate, a.totalCost, a.deposit, a.createdAt, " +
+            "i.id, i.name, a.category, c.id, c.name, c.phone) " +
+            "from ArchivedRental a join CampingItem i on i.id = a.itemId join Customer c on c.id = a.customerId " +
+            "order by a.id")
+    Stream<RentalExportRow> streamExportRows();
+
+    /**
+     * 분석 스냅샷 적재용 조회 (보관 대여는 바뀌지 않으므로 전체 적재 때만 읽는다)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.rental.camprent.domain.campingrental.RentalAnalyticsRow(" +
+            "a.id, a.category, a.status, a.startDate, a.endDate, a.actualReturnDate, a.totalCost) " +
+            "from ArchivedRental a order by a.id")
+    Stream<RentalAnalyticsRow> streamAnalyticsRows();
+
+    /**
+     * 고객별 보관 대여 집계 (통계 재구축용, 보관 대여는 모두 종료 상태라 진행 중 건수는 0)
+     */
+    @Query("select new com.rental.camprent.domain.campingrental.CustomerRentalAggregate(" +
+            "a.customerId, count(a), " +
+            "coalesce(sum(case when a.status <> :cancelled then a.totalCost else 0 end), 0), " +
+            "0L, " +
+            "coalesce(sum(case when a.status in :returned and a.actualReturnDate > a.endDate then 1 else 0 end), 0), " +
+            "max(a.startDate)) " +
+            "from ArchivedRental a group by a.customerId")
+    List<CustomerRentalAggregate> aggregateByCustomer(@Param("cancelled") RentalStatus cancelled,
+                                                      @Param("returned") Collection<RentalStatus> returned);
+}
@@ -0,0 +1,31 @@
+package com.rental.camprent.domain.campingrental;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 고객별 대여 집계 (통계 재구축용)
+ */
+public record CustomerRentalAggregate(Long customerId,
+                                      Long rentalCount,
+                                      BigDecimal totalSpend,
+                                      Long activeRentals,
+                                      Long overdueCount,
+                                      LocalDate lastRentalDate) {
+
+    /**
+     * 같은 고객의 다른 집계(보관 대여 등)와 합산
+     */
+    public CustomerRentalAggregate plus(CustomerRentalAggregate other) {
+        LocalDate latest = lastRentalDate == null ? other.lastRentalDate()
+                : other.lastRentalDate() == null || lastRentalDate.isAfter(other.lastRentalDate()) ? lastRentalDate
+                : other.lastRentalDate();
+        return new CustomerRentalAggregate(
+                customerId,
+                rentalCount + other.rentalCount(),
+                totalSpend.add(other.totalSpend()),
+                activeRentals + other.activeRentals(),
+                overdueCount + other.overdueCount(),
+                latest);
+    }
+}
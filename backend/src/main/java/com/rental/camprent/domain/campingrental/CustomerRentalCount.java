@@ -0,0 +1,7 @@
+package com.rental.camprent.domain.campingrental;
+
+/**
+ * 고객별 대여 건수
+ */
+public record CustomerRentalCount(Long customerId, Long count) {
+}
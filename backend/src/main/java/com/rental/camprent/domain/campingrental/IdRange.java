@@ -0,0 +1,11 @@
+package com.rental.camprent.domain.campingrental;
+
+/**
+ * ID 범위 (대상이 없으면 minId, maxId 모두 null)
+ */
+public record IdRange(Long minId, Long maxId) {
+
+    public boolean isEmpty() {
+        return minId == null || maxId == null;
+    }
+}
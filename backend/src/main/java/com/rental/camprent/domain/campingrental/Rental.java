@@ -17,13 +17,23 @@ import java.time.temporal.ChronoUnit;
  * 대여 엔티티
  */
 @Entity
-@Table(name = "rentals")
+@Table(name = "rentals", indexes = {
+        @Index(name = "idx_rentals_updated_at", columnList = "updated_at")    // 분석 스냅샷 증분 갱신
+})
+@NamedEntityGraph(name = Rental.WITH_MACHINE_AND_CUSTOMER, attributeNodes = {
+        @NamedAttributeNode("machine"),
+        @NamedAttributeNode("customer")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Rental {
 
+    public static final String WITH_MACHINE_AND_CUSTOMER = "Rental.withMachineAndCustomer";   // 장비/고객 함께 조회
+    public static final int MAX_RENTAL_DAYS = 365;                                              // 최대 대여 기간 (시작일, 종료일 포함)
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rental_seq")
+    @SequenceGenerator(name = "rental_seq", sequenceName = "rentals_seq", allocationSize = 50)
     private Long id;
 
     // ===== JPA 관계 매핑 시작 =====
@@ -65,6 +75,7 @@ public class Rental {
     @Builder
     public Rental(CampingItem machine, Customer customer, LocalDate startDate,
                   LocalDate endDate, BigDecimal deposit, String notes) {
+        validatePeriod(startDate, endDate);
         this.machine = machine;
         this.customer = customer;
         this.startDate = startDate;
@@ -77,14 +88,24 @@ public class Rental {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 대여 기간 검증 (종료일은 시작일 이후, 최대 MAX_RENTAL_DAYS 일)
+     */
+    public static void validatePeriod(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("종료일은 시작일 이후여야 합니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_RENTAL_DAYS) {
+            throw new IllegalArgumentException("대여 기간은 최대 " + MAX_RENTAL_DAYS + "일입니다.");
+        }
+    }
+
     // ===== 비즈니스 메서드 시작 =====
     /**
-     *  총 비용 계산 (일일 대여료 * 대여 일 수)
-     *  TODO: 나중에 성수기 요금 반영하도록 수정 예정
+     *  총 비용 계산 (계절별 일일 대여료 합계, 시작일 포함 / 성수기 할증 반영)
      */
     private BigDecimal calculateTotalCost(CampingItem machine, LocalDate startDate, LocalDate endDate) {
-        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;    // 시작일 포함
-        return machine.getBaseDailyRate().multiply(BigDecimal.valueOf(days));
+        return machine.calculateRentalCost(startDate, endDate);
     }
 
     /**
@@ -147,15 +168,27 @@ public class Rental {
      * 대여 기간 연장
      */
     public void extend(LocalDate newEndDate) {
+        BigDecimal extensionCost = calculateExtensionCost(newEndDate);
+        this.endDate = newEndDate;
+        this.totalCost = this.totalCost.add(extensionCost);
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 연장 추가 비용 계산 (기존 종료일 다음 날 ~ 새 종료일만 계산, 상태 변경 없음)
+     */
+    public BigDecimal calculateExtensionCost(LocalDate newEndDate) {
         if (this.status != RentalStatus.IN_PROGRESS) {
             throw new IllegalStateException("대여중인 상태에서만 연장 가능합니다.");
         }
         if (newEndDate.isBefore(this.endDate)) {
             throw new IllegalArgumentException("연장 날짜는 기존 종료일 이후여야 합니다.");
         }
-        this.endDate = newEndDate;
-        this.totalCost = calculateTotalCost(this.machine, this.startDate, newEndDate);
-        this.updatedAt = LocalDateTime.now();
+        if (!newEndDate.isAfter(this.endDate)) {
+            return BigDecimal.ZERO;
+        }
+        validatePeriod(this.startDate, newEndDate);
+        return this.machine.calculateRentalCost(this.endDate.plusDays(1), newEndDate);
     }
 
     /**
@@ -0,0 +1,18 @@
+package com.rental.camprent.domain.campingrental;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 분석 스냅샷 적재용 대여 행
+ */
+public record RentalAnalyticsRow(Long rentalId,
+                                 CampingCategory category,
+                                 RentalStatus status,
+                                 LocalDate startDate,
+                                 LocalDate endDate,
+                                 LocalDate actualReturnDate,
+                                 BigDecimal totalCost) {
+}
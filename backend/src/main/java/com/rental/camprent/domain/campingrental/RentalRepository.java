@@ -0,0 +1,232 @@
+package com.rental.camprent.domain.campingrental;
+
+import com.rental.camprent.dto.response.RentalExportRow;
+import com.rental.camprent.dto.response.RentalSummaryResponse;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+public interface RentalRepository extends JpaRepository<Rental, Long> {
+
+    /**
+     * 재고를 점유 중인 대여 기간 조회 (가용 재고 원장 재구성용)
+     */
+    @Query("select new com.rental.camprent.domain.campingrental.ReservedPeriod(r.machine.id, r.startDate, r.endDate) " +
+            "from Rental r where r.status in :statuses and r.endDate >= :from")
+    List<ReservedPeriod> findReservedPeriods(@Param("statuses") Collection<RentalStatus> statuses,
+                                             @Param("from") LocalDate from);
+
+    /**
+     * 종료일이 지난 대여의 ID 범위 (연체 일괄 처리 분할용)
+     */
+    @Query("select new com.rental.camprent.domain.campingrental.IdRange(min(r.id), max(r.id)) " +
+            "from Rental r where r.status = :status and r.endDate < :date")
+    IdRange findIdRangeByStatusAndEndDateBefore(@Param("status") RentalStatus status,
+                                                @Param("date") LocalDate date);
+
+    /**
+     * 해당 상태인 대여의 장비 ID (대여 1건당 1개, 가용 재고 원장 재구성용)
+     */
+    @Query("select r.machine.id from Rental r where r.status = :status")
+    List<Long> findItemIdsByStatus(@Param("status") RentalStatus status);
+
+    /**
+     * 지정한 대여의 장비 ID (대여 1건당 1개)
+     */
+    @Query("select r.machine.id from Rental r where r.id in :ids")
+    List<Long> findItemIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 종료일이 지난 대여 ID (afterId 초과 ~ toId 이하, ID 순)
+     */
+    @Query("select r.id from Rental r where r.status = :status and r.endDate < :date " +
+            "and r.id > :afterId and r.id <= :toId order by r.id")
+    List<Long> findIdsByStatusAndEndDateBefore(@Param("status") RentalStatus status,
+                                               @Param("date") LocalDate date,
+                                               @Param("afterId") Long afterId,
+                                               @Param("toId") Long toId,
+                                               Pageable pageable);
+
+    /**
+     * 대여 상태 일괄 변경 (현재 상태가 from 인 건만)
+     */
+    @Modifying
+    @Query("update Rental r set r.status = :to, r.updatedAt = :now where r.id in :ids and r.status = :from")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("from") RentalStatus from,
+                     @Param("to") RentalStatus to,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 지정한 대여 중 해당 상태인 건을 잠그고 ID 반환 (SELECT ... FOR UPDATE SKIP LOCKED)
+     * - 다른 트랜잭션이 잡고 있는 행은 기다리지 않고 건너뛴다
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("select r.id from Rental r where r.id in :ids and r.status = :status order by r.id")
+    List<Long> lockIdsByStatus(@Param("ids") Collection<Long> ids, @Param("status") RentalStatus status);
+
+    /**
+     * 대여 이력 내보내기 (장비/고객 포함, 서버 커서로 fetch size 만큼씩 읽음)
+     * - 트랜잭션 안에서 사용하고 반드시 close 해야 한다
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.rental.camprent.dto.response.RentalExportRow(" +
+            "r.id, r.status, r.startDate, r.endDate, r.actualReturnDate, r.totalCost, r.deposit, r.createdAt, " +
+            "i.id, i.name, i.category, c.id, c.name, c.phone) " +
+            "from Rental r join r.machine i join r.customer c order by r.id")
+    Stream<RentalExportRow> streamExportRows();
+
+    /**
+     * 대여 목록 (장비/고객을 한 번의 조인으로 함께 조회)
+     */
+    @EntityGraph(Rental.WITH_MACHINE_AND_CUSTOMER)
+    @Query(value = "select r from Rental r where (:status is null or r.status = :status)",
+            countQuery = "select count(r) from Rental r where (:status is null or r.status = :status)")
+    Page<Rental> findWithMachineAndCustomer(@Param("status") RentalStatus status, Pageable pageable);
+
+    /**
+     * 대여 목록 요약 (응답 DTO 로 바로 조회)
+     */
+    @Query(value = "select new com.rental.camprent.dto.response.RentalSummaryResponse(" +
+            "r.id, r.status, r.startDate, r.endDate, r.totalCost, i.id, i.name, c.id, c.name, c.phone) " +
+            "from Rental r join r.machine i join r.customer c where (:status is null or r.status = :status)",
+            countQuery = "select count(r) from Rental r where (:status is null or r.status = :status)")
+    Page<RentalSummaryResponse> findSummaries(@Param("status") RentalStatus status, Pageable pageable);
+
+
+    /**
+     * 고객별 대여 통계 집계 (통계 재구축용)
+     * - 총 이용 금액은 취소 건 제외, 연체 건수는 연체중 + 종료일 이후 반납된 건
+     */
+    @Query("select new com.rental.camprent.domain.campingrental.CustomerRentalAggregate(" +
+            "r.customer.id, count(r), " +
+            "coalesce(sum(case when r.status <> :cancelled then r.totalCost else 0 end), 0), " +
+            "coalesce(sum(case when r.status not in :terminal then 1 else 0 end), 0), " +
+            "coalesce(sum(case when r.status = :overdue or (r.status in :returned and r.actualReturnDate > r.endDate) " +
+            "then 1 else 0 end), 0), " +
+            "max(r.startDate)) " +
+            "from Rental r group by r.customer.id")
+    List<CustomerRentalAggregate> aggregateByCustomer(@Param("cancelled") RentalStatus cancelled,
+                                                      @Param("terminal") Collection<RentalStatus> terminal,
+                                                      @Param("overdue") RentalStatus overdue,
+                                                      @Param("returned") Collection<RentalStatus> returned);
+
+    /**
+     * 지정한 대여 중 해당 상태인 건을 고객별로 집계
+     */
+    @Query("select new com.rental.camprent.domain.campingrental.CustomerRentalCount(r.customer.id, count(r)) " +
+            "from Rental r where r.id in :ids and r.status = :status group by r.customer.id")
+    List<CustomerRentalCount> countByCustomer(@Param("ids") Collection<Long> ids,
+                                              @Param("status") RentalStatus status);
+
+    /**
+     * 상태별 대여 건수 (메트릭 게이지용)
+     */
+    @Query("select new com.rental.camprent.domain.campingrental.RentalStatusCount(r.status, count(r)) " +
+            "from Rental r group by r.status")
+    List<RentalStatusCount> countGroupByStatus();
+
+    /**
+     * 분석 스냅샷 적재용 전체 조회 (서버 커서, 트랜잭션 안에서 사용 후 close)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.rental.camprent.domain.campingrental.RentalAnalyticsRow(" +
+            "r.id, i.category, r.status, r.startDate, r.endDate, r.actualReturnDate, r.totalCost) " +
+            "from Rental r join r.machine i order by r.id")
+    Stream<RentalAnalyticsRow> streamAnalyticsRows();
+
+    /**
+     * 분석 스냅샷 증분 갱신용 조회 (수정일시 기준)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.rental.camprent.domain.campingrental.RentalAnalyticsRow(" +
+            "r.id, i.category, r.status, r.startDate, r.endDate, r.actualReturnDate, r.totalCost) " +
+            "from Rental r join r.machine i where r.updatedAt >= :since order by r.id")
+    Stream<RentalAnalyticsRow> streamAnalyticsRowsUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 보관 대상 대여 ID (종료 상태이고 반납일(없으면 종료일)이 기준일 이전, ID 순 청크)
+     * - 정산 대상 상태인데 아직 정산 결과가 없는 대여는 정산이 운영 테이블만 읽으므로 제외
+     */
+    @Query("select r.id from Rental r where r.status in :terminal " +
+            "and coalesce(r.actualReturnDate, r.endDate) < :cutoff and r.id > :afterId " +
+            "and (r.status not in :settled " +
+            "or exists (select 1 from RentalSettlement s where s.rentalId = r.id)) order by r.id")
+    List<Long> findArchivableIds(@Param("terminal") Collection<RentalStatus> terminal,
+                                 @Param("settled") Collection<RentalStatus> settled,
+                                 @Param("cutoff") LocalDate cutoff,
+                                 @Param("afterId") long afterId,
+                                 Pageable pageable);
+
+    /**
+     * 보관 테이블로 옮긴 대여 삭제 (종료 상태만)
+     */
+    @Modifying
+    @Query("delete from Rental r where r.id in :ids and r.status in :terminal")
+    int deleteArchived(@Param("ids") Collection<Long> ids,
+                       @Param("terminal") Collection<RentalStatus> terminal);
+
+    /**
+     * 고객 대여 이력 (최근 시작일 순)
+     */
+    @Query("select new com.rental.camprent.dto.response.RentalSummaryResponse(" +
+            "r.id, r.status, r.startDate, r.endDate, r.totalCost, i.id, i.name, c.id, c.name, c.phone) " +
+            "from Rental r join r.machine i join r.customer c where c.id = :customerId " +
+            "order by r.startDate desc, r.id desc")
+    List<RentalSummaryResponse> findCustomerHistory(@Param("customerId") Long customerId, Pageable pageable);
+
+    long countByCustomerId(Long customerId);
+
+    /**
+     * 정산 대상 ID 범위 (기간 내 반납된 대여)
+     */
+    @Query("select new com.rental.camprent.domain.campingrental.IdRange(min(r.id), max(r.id)) " +
+            "from Rental r where r.status in :statuses and r.actualReturnDate between :from and :to")
+    IdRange findSettlementIdRange(@Param("statuses") Collection<RentalStatus> statuses,
+                                  @Param("from") LocalDate from,
+                                  @Param("to") LocalDate to);
+
+    /**
+     * 정산 대상 청크 (afterId 초과 ~ toId 이하, ID 순, 이미 정산된 대여 제외)
+     */
+    @Query("select new com.rental.camprent.domain.campingrental.RentalSettlementSource(" +
+            "r.id, r.customer.id, r.status, r.endDate, r.actualReturnDate, r.deposit, i.baseDailyRate) " +
+            "from Rental r join r.machine i " +
+            "where r.status in :statuses and r.actualReturnDate between :from and :to " +
+            "and r.id > :afterId and r.id <= :toId " +
+            "and not exists (select 1 from RentalSettlement s where s.rentalId = r.id) " +
+            "order by r.id")
+    List<RentalSettlementSource> findSettlementSources(@Param("statuses") Collection<RentalStatus> statuses,
+                                                       @Param("from") LocalDate from,
+                                                       @Param("to") LocalDate to,
+                                                       @Param("afterId") long afterId,
+                                                       @Param("toId") long toId,
+                                                       Pageable pageable);
+}
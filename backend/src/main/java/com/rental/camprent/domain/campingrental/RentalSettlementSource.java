@@ -0,0 +1,16 @@
+package com.rental.camprent.domain.campingrental;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 정산 대상 대여 행 (장비 기본 일일 요금 포함)
+ */
+public record RentalSettlementSource(Long rentalId,
+                                     Long customerId,
+                                     RentalStatus status,
+                                     LocalDate endDate,
+                                     LocalDate actualReturnDate,
+                                     BigDecimal deposit,
+                                     BigDecimal baseDailyRate) {
+}
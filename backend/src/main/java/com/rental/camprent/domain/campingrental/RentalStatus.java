@@ -1,5 +1,8 @@
 package com.rental.camprent.domain.campingrental;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * 대여 상태
  */
@@ -23,4 +26,45 @@ public enum RentalStatus {
     public String getDescription() {
         return description;
     }
+
+    /**
+     * 재고를 점유하는 상태인지 확인 (승인 이후 ~ 반납 전)
+     */
+    public boolean isReserving() {
+        return this == APPROVED || this == IN_PROGRESS || this == EXTENSION_REQUESTED || this == OVERDUE;
+    }
+
+    /**
+     * 더 이상 상태가 바뀌지 않는 종료 상태인지 확인 (반납완료, 취소, 파손반납)
+     */
+    public boolean isTerminal() {
+        return this == COMPLETED || this == CANCELLED || this == RETURED_DAMAGED;
+    }
+
+    /**
+     * 종료 상태 목록
+     */
+    public static Set<RentalStatus> terminalStatuses() {
+        return EnumSet.of(COMPLETED, CANCELLED, RETURED_DAMAGED);
+    }
+
+    /**
+     * 정산 대상 상태 목록 (반납완료, 파손반납)
+     */
+    public static Set<RentalStatus> settledStatuses() {
+        return EnumSet.of(COMPLETED, RETURED_DAMAGED);
+    }
+
+    /**
+     * 재고를 점유하는 상태 목록
+     */
+    public static Set<RentalStatus> reservingStatuses() {
+        EnumSet<RentalStatus> statuses = EnumSet.noneOf(RentalStatus.class);
+        for (RentalStatus status : values()) {
+            if (status.isReserving()) {
+                statuses.add(status);
+            }
+        }
+        return statuses;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.rental.camprent.domain.campingrental;
+
+/**
+ * 상태별 대여 건수
+ */
+public record RentalStatusCount(RentalStatus status, Long count) {
+}
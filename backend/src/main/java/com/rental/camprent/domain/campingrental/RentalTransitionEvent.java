@@ -0,0 +1,74 @@
+package com.rental.camprent.domain.campingrental;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 대여 상태 전이 이벤트 (생성, 상태 변경, 기간 연장)
+ *
+ * @param fromStatus        변경 전 상태 (신규 생성이면 null)
+ * @param previousEndDate   변경 전 종료일 (연장이 아니면 endDate 와 같음)
+ * @param previousTotalCost 변경 전 총 비용 (신규 생성이면 0)
+ */
+public record RentalTransitionEvent(Long rentalId,
+                                    Long itemId,
+                                    Long customerId,
+                                    RentalStatus fromStatus,
+                                    RentalStatus toStatus,
+                                    LocalDate startDate,
+                                    LocalDate previousEndDate,
+                                    LocalDate endDate,
+                                    LocalDate actualReturnDate,
+                                    BigDecimal previousTotalCost,
+                                    BigDecimal totalCost,
+                                    String actor,
+                                    LocalDateTime occurredAt) {
+
+    /**
+     * 신규 대여 신청
+     */
+    public static RentalTransitionEvent created(Rental rental, String actor) {
+        return of(rental, null, rental.getEndDate(), BigDecimal.ZERO, actor);
+    }
+
+    /**
+     * 상태 변경
+     */
+    public static RentalTransitionEvent of(Rental rental, RentalStatus fromStatus, String actor) {
+        return of(rental, fromStatus, rental.getEndDate(), rental.getTotalCost(), actor);
+    }
+
+    /**
+     * 상태 변경 (종료일/비용 변경 포함)
+     */
+    public static RentalTransitionEvent of(Rental rental, RentalStatus fromStatus, LocalDate previousEndDate,
+                                           BigDecimal previousTotalCost, String actor) {
+        return new RentalTransitionEvent(
+                rental.getId(),
+                rental.getMachine().getId(),
+                rental.getCustomer().getId(),
+                fromStatus,
+                rental.getStatus(),
+                rental.getStartDate(),
+                previousEndDate,
+                rental.getEndDate(),
+                rental.getActualReturnDate(),
+                previousTotalCost,
+                rental.getTotalCost(),
+                actor,
+                rental.getUpdatedAt());
+    }
+
+    public boolean isCreated() {
+        return fromStatus == null;
+    }
+
+    public boolean isStatusChanged() {
+        return fromStatus != toStatus;
+    }
+
+    public boolean isExtended() {
+        return endDate.isAfter(previousEndDate);
+    }
+}
@@ -0,0 +1,46 @@
+package com.rental.camprent.domain.campingrental;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대여 상태 전이 이력 (추가 전용)
+ * - 기록은 RentalTransitionLogWriter 가 JDBC 배치로 insert 한다
+ * - event_id 는 이력마다 만든 식별자로, 보관 파일을 다시 기록할 때 같은 이력이 두 번 들어가지 않게 한다
+ */
+@Entity
+@Table(name = "rental_transition_logs", indexes = {
+        @Index(name = "idx_rental_transition_logs_rental_id", columnList = "rental_id, occurred_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RentalTransitionLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false, unique = true, length = 36, updatable = false)
+    private String eventId;             // 이력 식별자 (UUID)
+
+    @Column(name = "rental_id", nullable = false, updatable = false)
+    private Long rentalId;              // 대여 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, updatable = false)
+    private RentalStatus fromStatus;    // 변경 전 상태 (신규 생성이면 null)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20, updatable = false)
+    private RentalStatus toStatus;      // 변경 후 상태
+
+    @Column(nullable = false, length = 100, updatable = false)
+    private String actor;               // 변경 주체 (사용자명 또는 시스템 작업명)
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;   // 변경 일시
+}
@@ -0,0 +1,12 @@
+package com.rental.camprent.domain.campingrental;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+
+public interface RentalTransitionLogRepository extends JpaRepository<RentalTransitionLog, Long> {
+
+    List<RentalTransitionLog> findByRentalIdOrderByOccurredAtAscIdAsc(Long rentalId);
+
+}
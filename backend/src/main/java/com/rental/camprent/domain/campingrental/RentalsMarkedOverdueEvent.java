@@ -0,0 +1,10 @@
+package com.rental.camprent.domain.campingrental;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 연체 일괄 처리 완료 이벤트 (IN_PROGRESS -> OVERDUE)
+ */
+public record RentalsMarkedOverdueEvent(List<Long> rentalIds, String actor, LocalDateTime occurredAt) {
+}
@@ -0,0 +1,9 @@
+package com.rental.camprent.domain.campingrental;
+
+import java.time.LocalDate;
+
+/**
+ * 장비별 예약 점유 기간 (조회 전용)
+ */
+public record ReservedPeriod(Long itemId, LocalDate startDate, LocalDate endDate) {
+}
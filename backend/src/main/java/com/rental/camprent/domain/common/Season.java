@@ -2,6 +2,7 @@ package com.rental.camprent.domain.common;
 
 import lombok.Getter;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.Month;
 
@@ -14,6 +15,8 @@ public enum Season {
     AUTUMN("가을", false),
     WINTER("겨울", false);
 
+    private static final BigDecimal PEAK_SEASON_RATE_MULTIPLIER = new BigDecimal("1.5");
+
     @Getter
     private final String description;
     private final boolean isPeakSeason;
@@ -27,6 +30,13 @@ public enum Season {
         return isPeakSeason;
     }
 
+    /**
+     * 일일 대여료 배율 (성수기 50% 할증)
+     */
+    public BigDecimal getRateMultiplier() {
+        return isPeakSeason ? PEAK_SEASON_RATE_MULTIPLIER : BigDecimal.ONE;
+    }
+
     /**
      * 날짜로 계절 계산
      */
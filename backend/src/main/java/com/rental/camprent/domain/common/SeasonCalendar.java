@@ -0,0 +1,131 @@
+package com.rental.camprent.domain.common;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 계절 달력 (가격 계산용)
+ * - 계절이 바뀌는 날짜(구간 시작일)를 미리 계산해 두고,
+ *   기간 요금을 하루 단위가 아닌 계절 구간 단위로 계산한다
+ */
+public final class SeasonCalendar {
+
+    private static final int FIRST_YEAR = 1970;
+    private static final int LAST_YEAR = 2199;
+
+    private static final long FIRST_EPOCH_DAY = LocalDate.of(FIRST_YEAR, 1, 1).toEpochDay();
+    private static final long END_EPOCH_DAY = LocalDate.of(LAST_YEAR + 1, 1, 1).toEpochDay();  // 미포함
+
+    private static final long[] SEGMENT_STARTS;     // 구간 시작일 (epochDay, 오름차순)
+    private static final Season[] SEGMENT_SEASONS;  // 구간 계절
+
+    static {
+        List<Long> starts = new ArrayList<>();
+        List<Season> seasons = new ArrayList<>();
+        for (YearMonth month = YearMonth.of(FIRST_YEAR, 1); month.getYear() <= LAST_YEAR; month = month.plusMonths(1)) {
+            LocalDate firstDay = month.atDay(1);
+            Season season = Season.fromDate(firstDay);
+            if (seasons.isEmpty() || seasons.get(seasons.size() - 1) != season) {
+                starts.add(firstDay.toEpochDay());
+                seasons.add(season);
+            }
+        }
+        SEGMENT_STARTS = starts.stream().mapToLong(Long::longValue).toArray();
+        SEGMENT_SEASONS = seasons.toArray(new Season[0]);
+    }
+
+    private SeasonCalendar() {
+    }
+
+    /**
+     * 기간(시작일, 종료일 포함) 내 계절별 일수
+     *
+     * @throws IllegalArgumentException 종료일이 시작일보다 앞서거나 달력 범위(1970~2199년)를 벗어난 경우
+     */
+    public static SeasonDays countDays(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("종료일은 시작일 이후여야 합니다.");
+        }
+        long start = startDate.toEpochDay();
+        long end = endDate.toEpochDay();
+        long[] days = new long[Season.values().length];
+
+        if (start < FIRST_EPOCH_DAY || end >= END_EPOCH_DAY) {
+            // 하루씩 세면 LocalDate.MAX 같은 날짜 하나로 수십억 번 반복하게 되므로 받지 않는다
+            throw new IllegalArgumentException("요금 계산은 " + FIRST_YEAR + "~" + LAST_YEAR + "년 날짜만 지원합니다.");
+        }
+
+        int index = Arrays.binarySearch(SEGMENT_STARTS, start);
+        if (index < 0) {
+            index = -index - 2;     // start 를 포함하는 구간
+        }
+        for (; index < SEGMENT_STARTS.length && SEGMENT_STARTS[index] <= end; index++) {
+            long segmentEnd = (index + 1 < SEGMENT_STARTS.length ? SEGMENT_STARTS[index + 1] : END_EPOCH_DAY) - 1;
+            long from = Math.max(start, SEGMENT_STARTS[index]);
+            long to = Math.min(end, segmentEnd);
+            days[SEGMENT_SEASONS[index].ordinal()] += to - from + 1;
+        }
+        return new SeasonDays(days);
+    }
+
+    /**
+     * 기간 총 대여료 (계절별 일일 대여료 합계)
+     */
+    public static BigDecimal calculateCost(BigDecimal baseDailyRate, LocalDate startDate, LocalDate endDate) {
+        return countDays(startDate, endDate).calculateCost(baseDailyRate);
+    }
+
+    /**
+     * 계절별 일수
+     */
+    public static final class SeasonDays {
+
+        private final long[] days;      // Season.ordinal() 기준
+
+        private SeasonDays(long[] days) {
+            this.days = days;
+        }
+
+        public long getDays(Season season) {
+            return days[season.ordinal()];
+        }
+
+        public long getTotalDays() {
+            long total = 0;
+            for (long d : days) {
+                total += d;
+            }
+            return total;
+        }
+
+        public long getPeakSeasonDays() {
+            long total = 0;
+            for (Season season : Season.values()) {
+                if (season.isPeakSeason()) {
+                    total += days[season.ordinal()];
+                }
+            }
+            return total;
+        }
+
+        /**
+         * 기본 일일 대여료 기준 총 대여료 (배율이 같은 날끼리 묶어서 계산)
+         */
+        public BigDecimal calculateCost(BigDecimal baseDailyRate) {
+            long peakDays = getPeakSeasonDays();
+            long offPeakDays = getTotalDays() - peakDays;
+            BigDecimal cost = baseDailyRate.multiply(BigDecimal.valueOf(offPeakDays));
+            for (Season season : Season.values()) {
+                long seasonDays = days[season.ordinal()];
+                if (season.isPeakSeason() && seasonDays > 0) {
+                    cost = cost.add(baseDailyRate.multiply(season.getRateMultiplier()).multiply(BigDecimal.valueOf(seasonDays)));
+                }
+            }
+            return cost;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.rental.camprent.domain.customer;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 고객별 대여 통계 (대여 생성/상태 변경 시 증분 반영, 전체 재구축 가능)
+ * - 값 변경은 CustomerRentalStatsRepository 의 증분 update 로만 한다 (동시 변경 시 갱신 유실 방지)
+ */
+@Entity
+@Table(name = "customer_rental_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CustomerRentalStats implements Persistable<Long> {
+
+    @Id
+    private Long customerId;                // 고객 ID
+
+    @Column(nullable = false)
+    private long rentalCount;               // 전체 대여 건수
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalSpend;          // 총 이용 금액 (취소 건 제외)
+
+    @Column(nullable = false)
+    private long activeRentals;             // 진행 중 대여 건수 (종료 상태 제외)
+
+    @Column(nullable = false)
+    private long overdueCount;              // 연체 건수 (연체중 + 늦게 반납된 건)
+
+    private LocalDate lastRentalDate;       // 마지막 대여 시작일
+
+    private LocalDateTime updatedAt;        // 수정일시
+
+    @Transient
+    private boolean isNew = true;           // ID 를 직접 지정하므로 저장 시 조회 없이 insert 하기 위한 표시
+
+    @Builder
+    public CustomerRentalStats(Long customerId, long rentalCount, BigDecimal totalSpend,
+                               long activeRentals, long overdueCount, LocalDate lastRentalDate) {
+        this.customerId = customerId;
+        this.rentalCount = rentalCount;
+        this.totalSpend = totalSpend == null ? BigDecimal.ZERO : totalSpend;
+        this.activeRentals = activeRentals;
+        this.overdueCount = overdueCount;
+        this.lastRentalDate = lastRentalDate;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public Long getId() {
+        return customerId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    /**
+     * 대여 이력이 없는 고객
+     */
+    public static CustomerRentalStats empty(Long customerId) {
+        return CustomerRentalStats.builder()
+                .customerId(customerId)
+                .totalSpend(BigDecimal.ZERO)
+                .build();
+    }
+}
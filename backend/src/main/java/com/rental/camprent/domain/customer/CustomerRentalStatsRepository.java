@@ -0,0 +1,39 @@
+package com.rental.camprent.domain.customer;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+
+public interface CustomerRentalStatsRepository extends JpaRepository<CustomerRentalStats, Long> {
+
+    /**
+     * 통계 증분 반영 (행이 없으면 0 반환)
+     */
+    @Modifying
+    @Query("update CustomerRentalStats s set " +
+            "s.rentalCount = s.rentalCount + :rentalCount, " +
+            "s.totalSpend = s.totalSpend + :totalSpend, " +
+            "s.activeRentals = s.activeRentals + :activeRentals, " +
+            "s.overdueCount = s.overdueCount + :overdueCount, " +
+            "s.lastRentalDate = case when s.lastRentalDate is null or s.lastRentalDate < :lastRentalDate " +
+            "then :lastRentalDate else s.lastRentalDate end, " +
+            "s.updatedAt = :now " +
+            "where s.customerId = :customerId")
+    int applyDelta(@Param("customerId") Long customerId,
+                   @Param("rentalCount") long rentalCount,
+                   @Param("totalSpend") BigDecimal totalSpend,
+                   @Param("activeRentals") long activeRentals,
+                   @Param("overdueCount") long overdueCount,
+                   @Param("lastRentalDate") LocalDate lastRentalDate,
+                   @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from CustomerRentalStats")
+    int deleteAllInBulk();
+}
@@ -0,0 +1,8 @@
+package com.rental.camprent.domain.customer;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+
+public interface CustomerRepository extends JpaRepository<Customer, Long> {
+
+}
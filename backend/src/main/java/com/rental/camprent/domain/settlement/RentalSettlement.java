@@ -0,0 +1,61 @@
+package com.rental.camprent.domain.settlement;
+
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 대여 정산 결과 (대여당 1건, 추가 전용)
+ * - 기록은 SettlementJob 이 JDBC 배치로 insert 한다
+ */
+@Entity
+@Table(name = "rental_settlements", indexes = {
+        @Index(name = "idx_rental_settlements_run_id", columnList = "run_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RentalSettlement {
+
+    @Id
+    @Column(name = "rental_id")
+    private Long rentalId;                  // 대여 ID
+
+    @Column(name = "run_id", nullable = false, updatable = false)
+    private Long runId;                     // 정산 실행 ID
+
+    @Column(nullable = false, updatable = false)
+    private Long customerId;                // 고객 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20, updatable = false)
+    private RentalStatus rentalStatus;      // 정산 시점 대여 상태 (반납/파손반납)
+
+    @Column(nullable = false, updatable = false)
+    private int lateDays;                   // 연체 일수 (실제 반납일 - 종료일)
+
+    @Column(nullable = false, precision = 12, scale = 2, updatable = false)
+    private BigDecimal lateFee;             // 연체료
+
+    @Column(nullable = false, precision = 12, scale = 2, updatable = false)
+    private BigDecimal damageCharge;        // 파손 배상금
+
+    @Column(nullable = false, precision = 10, scale = 2, updatable = false)
+    private BigDecimal deposit;             // 보증금
+
+    @Column(nullable = false, precision = 10, scale = 2, updatable = false)
+    private BigDecimal depositDeduction;    // 보증금에서 차감한 금액
+
+    @Column(nullable = false, precision = 10, scale = 2, updatable = false)
+    private BigDecimal refundAmount;        // 환불할 보증금
+
+    @Column(nullable = false, precision = 12, scale = 2, updatable = false)
+    private BigDecimal amountDue;           // 보증금으로 모자라 추가 청구할 금액
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime settledAt;        // 정산일시
+}
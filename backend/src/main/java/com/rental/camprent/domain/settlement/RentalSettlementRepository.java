@@ -0,0 +1,8 @@
+package com.rental.camprent.domain.settlement;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RentalSettlementRepository extends JpaRepository<RentalSettlement, Long> {
+
+    long countByRunId(Long runId);
+}
@@ -0,0 +1,65 @@
+package com.rental.camprent.domain.settlement;
+
+import com.rental.camprent.domain.campingrental.RentalSettlementSource;
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import com.rental.camprent.domain.common.SeasonCalendar;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 대여 정산 계산
+ * - 연체료: 종료일 다음 날 ~ 실제 반납일을 계절별 일일 요금으로 계산한 뒤 연체 배율을 곱한다
+ * - 파손 배상금: 파손반납이면 보증금 x 파손 차감 비율
+ * - 연체료 + 배상금을 보증금에서 먼저 차감하고, 남으면 환불, 모자라면 추가 청구
+ */
+public final class SettlementCalculator {
+
+    private final BigDecimal lateFeeMultiplier;
+    private final BigDecimal damageDeductionRate;
+
+    public SettlementCalculator(BigDecimal lateFeeMultiplier, BigDecimal damageDeductionRate) {
+        if (lateFeeMultiplier.signum() < 0 || damageDeductionRate.signum() < 0 || damageDeductionRate.compareTo(BigDecimal.ONE) > 0) {
+            throw new IllegalArgumentException("연체 배율은 0 이상, 파손 차감 비율은 0~1 사이여야 합니다.");
+        }
+        this.lateFeeMultiplier = lateFeeMultiplier;
+        this.damageDeductionRate = damageDeductionRate;
+    }
+
+    public Amounts calculate(RentalSettlementSource source) {
+        long lateDays = Math.max(0, ChronoUnit.DAYS.between(source.endDate(), source.actualReturnDate()));
+        BigDecimal lateFee = lateDays == 0
+                ? money(BigDecimal.ZERO)
+                : money(SeasonCalendar.calculateCost(source.baseDailyRate(), source.endDate().plusDays(1), source.actualReturnDate())
+                        .multiply(lateFeeMultiplier));
+        BigDecimal damageCharge = source.status() == RentalStatus.RETURED_DAMAGED
+                ? money(source.deposit().multiply(damageDeductionRate))
+                : money(BigDecimal.ZERO);
+
+        BigDecimal charges = lateFee.add(damageCharge);
+        BigDecimal deduction = charges.min(source.deposit());
+        return new Amounts(
+                (int) lateDays,
+                lateFee,
+                damageCharge,
+                money(deduction),
+                money(source.deposit().subtract(deduction)),
+                money(charges.subtract(deduction)));
+    }
+
+    private static BigDecimal money(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 정산 금액
+     */
+    public record Amounts(int lateDays,
+                          BigDecimal lateFee,
+                          BigDecimal damageCharge,
+                          BigDecimal depositDeduction,
+                          BigDecimal refundAmount,
+                          BigDecimal amountDue) {
+    }
+}
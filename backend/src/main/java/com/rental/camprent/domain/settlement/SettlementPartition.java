@@ -0,0 +1,40 @@
+package com.rental.camprent.domain.settlement;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정산 파티션 체크포인트 (대여 ID 범위 하나)
+ * - 청크를 정산할 때마다 같은 트랜잭션에서 lastId 를 옮기므로, 중단 후 다시 실행하면 lastId 다음부터 이어서 처리한다
+ */
+@Entity
+@Table(name = "settlement_partitions", indexes = {
+        @Index(name = "idx_settlement_partitions_run_id", columnList = "run_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SettlementPartition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false, updatable = false)
+    private Long runId;                 // 정산 실행 ID
+
+    @Column(nullable = false)
+    private long lastId;                // 마지막으로 정산한 대여 ID (처음에는 범위 시작 - 1)
+
+    @Column(nullable = false, updatable = false)
+    private long toId;                  // 범위 끝 대여 ID (포함)
+
+    private boolean completed;          // 범위 처리 완료 여부
+
+    public SettlementPartition(Long runId, long afterId, long toId) {
+        this.runId = runId;
+        this.lastId = afterId;
+        this.toId = toId;
+    }
+}
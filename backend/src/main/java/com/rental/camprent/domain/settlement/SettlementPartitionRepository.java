@@ -0,0 +1,24 @@
+package com.rental.camprent.domain.settlement;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface SettlementPartitionRepository extends JpaRepository<SettlementPartition, Long> {
+
+    List<SettlementPartition> findByRunIdAndCompletedFalseOrderByIdAsc(Long runId);
+
+    /**
+     * 체크포인트 이동 (청크 정산과 같은 트랜잭션에서 호출)
+     */
+    @Modifying
+    @Query("update SettlementPartition p set p.lastId = :lastId where p.id = :id and p.lastId < :lastId")
+    int advance(@Param("id") Long id, @Param("lastId") long lastId);
+
+    @Modifying
+    @Query("update SettlementPartition p set p.completed = true where p.id = :id")
+    int markCompleted(@Param("id") Long id);
+}
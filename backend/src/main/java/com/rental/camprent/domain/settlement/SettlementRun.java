@@ -0,0 +1,71 @@
+package com.rental.camprent.domain.settlement;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 정산 실행 (기간 내 반납된 대여 정산 1회)
+ */
+@Entity
+@Table(name = "settlement_runs", indexes = {
+        @Index(name = "idx_settlement_runs_period", columnList = "period_start, period_end")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SettlementRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;          // 정산 대상 반납일 시작 (포함)
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;            // 정산 대상 반납일 끝 (포함)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SettlementRunStatus status;     // 실행 상태
+
+    private long settledCount;              // 정산된 대여 건수 (완료 시 기록)
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;        // 최초 시작일시
+
+    private LocalDateTime finishedAt;       // 완료/실패일시
+
+    public SettlementRun(LocalDate periodStart, LocalDate periodEnd) {
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.status = SettlementRunStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 이어서 실행 (실패했거나 중단된 실행)
+     */
+    public void resume() {
+        if (this.status == SettlementRunStatus.COMPLETED) {
+            throw new IllegalStateException("이미 완료된 정산입니다. id=" + id);
+        }
+        this.status = SettlementRunStatus.RUNNING;
+        this.finishedAt = null;
+    }
+
+    public void complete(long settledCount) {
+        this.status = SettlementRunStatus.COMPLETED;
+        this.settledCount = settledCount;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail() {
+        this.status = SettlementRunStatus.FAILED;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,19 @@
+package com.rental.camprent.domain.settlement;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface SettlementRunRepository extends JpaRepository<SettlementRun, Long> {
+
+    /**
+     * 같은 기간의 미완료 실행 (이어서 처리할 대상)
+     */
+    Optional<SettlementRun> findFirstByPeriodStartAndPeriodEndAndStatusInOrderByIdDesc(
+            LocalDate periodStart, LocalDate periodEnd, Collection<SettlementRunStatus> statuses);
+
+    List<SettlementRun> findByStatus(SettlementRunStatus status);
+}
@@ -0,0 +1,20 @@
+package com.rental.camprent.domain.settlement;
+
+/**
+ * 정산 실행 상태
+ */
+public enum SettlementRunStatus {
+    RUNNING("진행중"),      // 진행 중 (프로세스가 중간에 죽었으면 이 상태로 남아 다음 기동 시 이어서 처리)
+    COMPLETED("완료"),
+    FAILED("실패");         // 오류로 중단 (같은 기간으로 다시 실행하면 체크포인트부터 이어서 처리)
+
+    private final String description;
+
+    SettlementRunStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
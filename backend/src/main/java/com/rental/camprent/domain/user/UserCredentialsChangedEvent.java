@@ -0,0 +1,7 @@
+package com.rental.camprent.domain.user;
+
+/**
+ * 로그인 정보 변경 이벤트 (비활성화/활성화/비밀번호 변경)
+ */
+public record UserCredentialsChangedEvent(String username) {
+}
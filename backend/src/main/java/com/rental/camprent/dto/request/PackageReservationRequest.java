@@ -0,0 +1,68 @@
+package com.rental.camprent.dto.request;
+
+import com.rental.camprent.domain.campingrental.Rental;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 패키지(묶음) 예약 요청 - 구성 장비 전체를 같은 기간으로 한 번에 예약
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PackageReservationRequest {
+
+    @NotNull
+    private Long customerId;
+
+    @NotNull
+    private LocalDate startDate;
+
+    @NotNull
+    private LocalDate endDate;
+
+    @NotEmpty
+    @Size(max = 10)
+    @Valid
+    private List<Item> items;           // 구성 장비
+
+    @NotNull
+    @PositiveOrZero
+    private BigDecimal deposit;         // 보증금 (장비 1개당)
+
+    @Size(max = 500)
+    private String notes;
+
+    @AssertTrue(message = "대여 기간은 최대 " + Rental.MAX_RENTAL_DAYS + "일입니다.")
+    private boolean isWithinMaxPeriod() {
+        return startDate == null || endDate == null || ChronoUnit.DAYS.between(startDate, endDate) < Rental.MAX_RENTAL_DAYS;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotNull
+        private Long itemId;
+
+        @NotNull
+        @Min(1)
+        @Max(10)
+        private Integer quantity;
+    }
+}
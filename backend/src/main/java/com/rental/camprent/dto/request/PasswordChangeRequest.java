@@ -0,0 +1,17 @@
+package com.rental.camprent.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PasswordChangeRequest {
+
+    @NotBlank
+    @Size(min = 8, max = 100)
+    private String password;
+}
@@ -0,0 +1,38 @@
+package com.rental.camprent.dto.request;
+
+import com.rental.camprent.domain.campingrental.Rental;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 여러 장비 동일 기간 대여료 견적 요청
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceQuoteRequest {
+
+    @NotEmpty
+    @Size(max = 50)
+    private List<Long> itemIds;     // 견적 대상 장비 ID 목록
+
+    @NotNull
+    private LocalDate startDate;    // 대여 시작일
+
+    @NotNull
+    private LocalDate endDate;      // 대여 종료일
+
+    @AssertTrue(message = "대여 기간은 최대 " + Rental.MAX_RENTAL_DAYS + "일입니다.")
+    private boolean isWithinMaxPeriod() {
+        return startDate == null || endDate == null || ChronoUnit.DAYS.between(startDate, endDate) < Rental.MAX_RENTAL_DAYS;
+    }
+}
@@ -0,0 +1,44 @@
+package com.rental.camprent.dto.request;
+
+import com.rental.camprent.domain.campingrental.Rental;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentalCreateRequest {
+
+    @NotNull
+    private Long itemId;
+
+    @NotNull
+    private Long customerId;
+
+    @NotNull
+    private LocalDate startDate;
+
+    @NotNull
+    private LocalDate endDate;
+
+    @NotNull
+    @PositiveOrZero
+    private BigDecimal deposit;
+
+    @Size(max = 500)
+    private String notes;
+
+    @AssertTrue(message = "대여 기간은 최대 " + Rental.MAX_RENTAL_DAYS + "일입니다.")
+    private boolean isWithinMaxPeriod() {
+        return startDate == null || endDate == null || ChronoUnit.DAYS.between(startDate, endDate) < Rental.MAX_RENTAL_DAYS;
+    }
+}
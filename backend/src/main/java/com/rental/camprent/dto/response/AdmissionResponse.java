@@ -0,0 +1,19 @@
+package com.rental.camprent.dto.response;
+
+import com.rental.camprent.service.admission.AdmissionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대여 신청 접수 결과 (QUEUED 면 ticketId 로 결과 조회)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdmissionResponse {
+
+    private Long ticketId;
+    private AdmissionStatus status;
+    private Long rentalId;              // ACCEPTED 일 때 생성된 대여
+}
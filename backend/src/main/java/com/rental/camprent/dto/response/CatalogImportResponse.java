@@ -0,0 +1,22 @@
+package com.rental.camprent.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 장비 일괄 등록 결과
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogImportResponse {
+
+    private long totalRows;             // 입력 행 수
+    private long importedRows;          // 등록 성공 행 수
+    private long failedRows;            // 실패 행 수
+    private List<ImportRowError> errors;    // 실패 행 상세 (최대 1000건)
+
+}
@@ -0,0 +1,21 @@
+package com.rental.camprent.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 카탈로그 키셋 페이지
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogPageResponse {
+
+    private List<CampingItemResponse> items;
+    private String nextCursor;      // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+
+}
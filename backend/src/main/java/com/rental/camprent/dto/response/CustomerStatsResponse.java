@@ -0,0 +1,37 @@
+package com.rental.camprent.dto.response;
+
+import com.rental.camprent.domain.customer.CustomerRentalStats;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 고객 대여 통계 (고객 이력 화면용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerStatsResponse {
+
+    private Long customerId;
+    private long rentalCount;
+    private BigDecimal totalSpend;
+    private long activeRentals;
+    private long overdueCount;
+    private LocalDate lastRentalDate;
+
+    //static factory method
+    public static CustomerStatsResponse from(CustomerRentalStats stats) {
+        return new CustomerStatsResponse(
+                stats.getCustomerId(),
+                stats.getRentalCount(),
+                stats.getTotalSpend(),
+                stats.getActiveRentals(),
+                stats.getOverdueCount(),
+                stats.getLastRentalDate()
+        );
+    }
+}
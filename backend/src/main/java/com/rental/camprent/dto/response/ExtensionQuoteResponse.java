@@ -0,0 +1,38 @@
+package com.rental.camprent.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 대여 연장 견적 (연장 일수별 추가 비용과 가용 여부)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExtensionQuoteResponse {
+
+    private Long rentalId;
+    private Long itemId;
+    private LocalDate currentEndDate;         // 현재 종료일
+    private BigDecimal currentTotalCost;      // 현재 총 대여료
+    private List<Option> options;             // 연장 일수별 견적
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Option {
+
+        private int additionalDays;           // 연장 일수
+        private LocalDate newEndDate;         // 연장 후 종료일
+        private long peakSeasonDays;          // 연장 기간 중 성수기 일수
+        private BigDecimal additionalCost;    // 추가 대여료
+        private BigDecimal newTotalCost;      // 연장 후 총 대여료
+        private int availableQuantity;        // 연장 기간 대여 가능 수량
+        private boolean available;            // 연장 가능 여부
+    }
+}
@@ -0,0 +1,18 @@
+package com.rental.camprent.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 등록 실패 행
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowError {
+
+    private long rowNumber;     // 입력 순서 (1부터)
+    private String message;     // 실패 사유
+
+}
@@ -0,0 +1,34 @@
+package com.rental.camprent.dto.response;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import com.rental.camprent.domain.campingitem.CampingItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재고 변경 스트림 이벤트 (카테고리 단위, 모아 보내는 주기 동안 바뀐 장비의 현재 값)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryDeltaResponse {
+
+    private long sequence;                  // 발송 주기 번호 (빠진 번호가 있으면 목록을 다시 조회)
+    private CampingCategory category;
+    private LocalDateTime publishedAt;
+    private List<Item> items;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long itemId;
+        private CampingItemStatus status;
+        private int stockQuantity;          // 보유 수량
+        private int availableToday;         // 오늘 대여 가능 수량 (보유 수량 - 오늘 점유 중인 대여)
+    }
+}
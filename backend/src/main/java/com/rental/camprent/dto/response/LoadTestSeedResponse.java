@@ -0,0 +1,19 @@
+package com.rental.camprent.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 부하 테스트 데이터 생성 결과 (부하 생성기가 요청에 쓸 ID 목록)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestSeedResponse {
+
+    private List<Long> itemIds;
+    private List<Long> customerIds;
+}
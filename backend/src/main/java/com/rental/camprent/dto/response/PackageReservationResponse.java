@@ -0,0 +1,20 @@
+package com.rental.camprent.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 패키지 예약 결과 (구성 장비 1개당 대여 1건, 모두 승인 상태)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PackageReservationResponse {
+
+    private List<Long> rentalIds;
+    private BigDecimal totalCost;       // 전체 대여료 합계
+}
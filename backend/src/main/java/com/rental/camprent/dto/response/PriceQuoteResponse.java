@@ -0,0 +1,21 @@
+package com.rental.camprent.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceQuoteResponse {
+
+    private Long itemId;
+    private String name;
+    private BigDecimal baseDailyRate;
+    private long rentalDays;          // 총 대여 일수
+    private long peakSeasonDays;      // 성수기 일수
+    private BigDecimal totalCost;     // 총 대여료
+
+}
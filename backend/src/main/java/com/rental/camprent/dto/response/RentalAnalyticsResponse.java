@@ -0,0 +1,38 @@
+package com.rental.camprent.dto.response;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import com.rental.camprent.domain.common.Season;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 대여 분석 결과 (카테고리 x 시즌 x 월)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentalAnalyticsResponse {
+
+    private int snapshotRentals;            // 스냅샷에 적재된 대여 건수
+    private LocalDateTime snapshotAsOf;     // 스냅샷 마지막 갱신 시각
+    private List<Row> rows;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+        private CampingCategory category;
+        private Season season;
+        private YearMonth month;
+        private long startedRentals;        // 해당 월에 시작한 대여 건수
+        private long rentalDays;            // 해당 월에 걸친 대여 일수 합계
+        private BigDecimal revenue;         // 해당 월로 배분된 매출
+        private double utilization;         // 대여 일수 / (보유 수량 x 월 일수)
+    }
+}
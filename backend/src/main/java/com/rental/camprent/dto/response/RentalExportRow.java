@@ -0,0 +1,36 @@
+package com.rental.camprent.dto.response;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 대여 이력 내보내기 행 (정산용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentalExportRow {
+
+    private Long rentalId;
+    private RentalStatus status;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDate actualReturnDate;
+    private BigDecimal totalCost;
+    private BigDecimal deposit;
+    private LocalDateTime createdAt;
+    private Long itemId;
+    private String itemName;
+    private CampingCategory itemCategory;
+    private Long customerId;
+    private String customerName;
+    private String customerPhone;
+
+}
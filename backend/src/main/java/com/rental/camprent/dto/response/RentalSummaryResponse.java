@@ -0,0 +1,46 @@
+package com.rental.camprent.dto.response;
+
+import com.rental.camprent.domain.campingrental.Rental;
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 대여 목록 항목 (관리자 대시보드용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentalSummaryResponse {
+
+    private Long id;
+    private RentalStatus status;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BigDecimal totalCost;
+    private Long itemId;
+    private String itemName;
+    private Long customerId;
+    private String customerName;
+    private String customerPhone;
+
+    //static factory method (장비/고객이 함께 로딩된 엔티티 기준)
+    public static RentalSummaryResponse from(Rental rental) {
+        return new RentalSummaryResponse(
+                rental.getId(),
+                rental.getStatus(),
+                rental.getStartDate(),
+                rental.getEndDate(),
+                rental.getTotalCost(),
+                rental.getMachine().getId(),
+                rental.getMachine().getName(),
+                rental.getCustomer().getId(),
+                rental.getCustomer().getName(),
+                rental.getCustomer().getPhone()
+        );
+    }
+}
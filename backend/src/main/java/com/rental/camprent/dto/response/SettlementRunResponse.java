@@ -0,0 +1,32 @@
+package com.rental.camprent.dto.response;
+
+import com.rental.camprent.domain.settlement.SettlementRun;
+import com.rental.camprent.domain.settlement.SettlementRunStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 정산 실행 결과
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementRunResponse {
+
+    private Long id;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private SettlementRunStatus status;
+    private long settledCount;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public static SettlementRunResponse from(SettlementRun run) {
+        return new SettlementRunResponse(run.getId(), run.getPeriodStart(), run.getPeriodEnd(), run.getStatus(),
+                run.getSettledCount(), run.getStartedAt(), run.getFinishedAt());
+    }
+}
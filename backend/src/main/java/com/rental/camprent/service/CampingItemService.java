@@ -0,0 +1,68 @@
+package com.rental.camprent.service;
+
+import com.rental.camprent.domain.campingitem.CampingItem;
+import com.rental.camprent.domain.campingitem.CampingItemChangedEvent;
+import com.rental.camprent.domain.campingitem.CampingItemRepository;
+import com.rental.camprent.domain.campingitem.CampingItemStatus;
+import com.rental.camprent.dto.request.CampingItemCreateRequest;
+import com.rental.camprent.dto.request.CampingItemUpdateRequest;
+import com.rental.camprent.dto.response.CampingItemResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 장비 등록/수정 (변경 시 CampingItemChangedEvent 발행)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CampingItemService {
+
+    private final CampingItemRepository campingItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 장비 등록
+     */
+    public CampingItemResponse create(CampingItemCreateRequest request) {
+        CampingItem item = campingItemRepository.save(CampingItem.builder()
+                .name(request.getName())
+                .category(request.getCategory())
+                .model(request.getModel())
+                .description(request.getDescription())
+                .stockQuantity(request.getStockQuantity())
+                .baseDailyRate(request.getBaseDailyRate())
+                .status(request.getStatus())
+                .build());
+        eventPublisher.publishEvent(CampingItemChangedEvent.of(item, null));
+        return CampingItemResponse.from(item);
+    }
+
+    /**
+     * 장비 정보 수정
+     */
+    public CampingItemResponse updateInfo(Long itemId, CampingItemUpdateRequest request) {
+        CampingItem item = getItem(itemId);
+        item.updateInfo(request.getName(), request.getModel(), request.getDescription(), request.getBaseDailyRate());
+        eventPublisher.publishEvent(CampingItemChangedEvent.of(item, item.getStatus()));
+        return CampingItemResponse.from(item);
+    }
+
+    /**
+     * 장비 상태 변경
+     */
+    public CampingItemResponse updateStatus(Long itemId, CampingItemStatus status) {
+        CampingItem item = getItem(itemId);
+        CampingItemStatus previousStatus = item.getStatus();
+        item.updateStatus(status);
+        eventPublisher.publishEvent(CampingItemChangedEvent.of(item, previousStatus));
+        return CampingItemResponse.from(item);
+    }
+
+    private CampingItem getItem(Long itemId) {
+        return campingItemRepository.findById(itemId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 장비입니다. id=" + itemId));
+    }
+}
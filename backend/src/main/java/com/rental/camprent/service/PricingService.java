@@ -0,0 +1,114 @@
+package com.rental.camprent.service;
+
+import com.rental.camprent.domain.campingitem.CampingItem;
+import com.rental.camprent.domain.campingitem.CampingItemRepository;
+import com.rental.camprent.domain.campingrental.Rental;
+import com.rental.camprent.domain.campingrental.RentalRepository;
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import com.rental.camprent.domain.common.SeasonCalendar;
+import com.rental.camprent.dto.request.PriceQuoteRequest;
+import com.rental.camprent.dto.response.ExtensionQuoteResponse;
+import com.rental.camprent.dto.response.PriceQuoteResponse;
+import com.rental.camprent.service.availability.AvailabilityService;
+import com.rental.camprent.service.metrics.OperationTimer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대여료 견적
+ * - 기간의 계절별 일수는 한 번만 계산하고, 장비별로는 기본 대여료만 곱한다
+ * - 대여 연장 견적은 늘어난 기간만 계산하고, 가용 재고 원장으로 연장 가능 여부를 함께 확인한다 (대여는 변경하지 않음)
+ * - 견적 처리 시간은 camprent.pricing.quote 타이머로 남긴다
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PricingService {
+
+    private static final int MAX_EXTENSION_OPTIONS = 14;
+    private static final int MAX_EXTENSION_DAYS = 365;
+
+    private final CampingItemRepository campingItemRepository;
+    private final RentalRepository rentalRepository;
+    private final AvailabilityService availabilityService;
+    private final OperationTimer operationTimer;
+
+    /**
+     * 여러 장비의 동일 기간 대여료 견적
+     */
+    public List<PriceQuoteResponse> quote(PriceQuoteRequest request) {
+        return operationTimer.record("camprent.pricing.quote", "quote", () -> {
+            SeasonCalendar.SeasonDays seasonDays = SeasonCalendar.countDays(request.getStartDate(), request.getEndDate());
+
+            Map<Long, CampingItem> items = campingItemRepository.findAllById(request.getItemIds()).stream()
+                    .collect(Collectors.toMap(CampingItem::getId, Function.identity()));
+
+            List<PriceQuoteResponse> quotes = new ArrayList<>(request.getItemIds().size());
+            for (Long itemId : request.getItemIds()) {
+                CampingItem item = items.get(itemId);
+                if (item == null) {
+                    throw new IllegalArgumentException("존재하지 않는 장비입니다. id=" + itemId);
+                }
+                quotes.add(new PriceQuoteResponse(
+                        item.getId(),
+                        item.getName(),
+                        item.getBaseDailyRate(),
+                        seasonDays.getTotalDays(),
+                        seasonDays.getPeakSeasonDays(),
+                        seasonDays.calculateCost(item.getBaseDailyRate())
+                ));
+            }
+            return quotes;
+        });
+    }
+
+    /**
+     * 대여 연장 견적 (연장 일수 여러 개를 한 번에)
+     */
+    public ExtensionQuoteResponse quoteExtension(Long rentalId, List<Integer> additionalDays) {
+        return operationTimer.record("camprent.pricing.quote", "extension", () -> {
+            if (additionalDays == null || additionalDays.isEmpty() || additionalDays.size() > MAX_EXTENSION_OPTIONS
+                    || additionalDays.contains(null)) {
+                throw new IllegalArgumentException("연장 일수는 1~" + MAX_EXTENSION_OPTIONS + "개까지 지정할 수 있습니다.");
+            }
+            Rental rental = rentalRepository.findById(rentalId)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 대여입니다. id=" + rentalId));
+            if (rental.getStatus() != RentalStatus.IN_PROGRESS) {
+                throw new IllegalStateException("대여중인 상태에서만 연장 가능합니다.");
+            }
+
+            CampingItem item = rental.getMachine();
+            LocalDate currentEndDate = rental.getEndDate();
+            List<ExtensionQuoteResponse.Option> options = new ArrayList<>(additionalDays.size());
+            for (Integer days : additionalDays.stream().distinct().sorted().toList()) {
+                if (days < 1 || days > MAX_EXTENSION_DAYS) {
+                    throw new IllegalArgumentException("연장 일수는 1~" + MAX_EXTENSION_DAYS + "일 사이여야 합니다.");
+                }
+                LocalDate extensionStart = currentEndDate.plusDays(1);
+                LocalDate newEndDate = currentEndDate.plusDays(days);
+                SeasonCalendar.SeasonDays seasonDays = SeasonCalendar.countDays(extensionStart, newEndDate);
+                BigDecimal additionalCost = seasonDays.calculateCost(item.getBaseDailyRate());
+                int availableQuantity = availabilityService.availableQuantity(item.getId(), extensionStart, newEndDate);
+                options.add(new ExtensionQuoteResponse.Option(
+                        days,
+                        newEndDate,
+                        seasonDays.getPeakSeasonDays(),
+                        additionalCost,
+                        rental.getTotalCost().add(additionalCost),
+                        availableQuantity,
+                        availableQuantity > 0
+                ));
+            }
+            return new ExtensionQuoteResponse(rental.getId(), item.getId(), currentEndDate, rental.getTotalCost(), options);
+        });
+    }
+}
@@ -0,0 +1,71 @@
+package com.rental.camprent.service;
+
+import com.rental.camprent.domain.campingrental.ArchivedRentalRepository;
+import com.rental.camprent.domain.campingrental.RentalRepository;
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import com.rental.camprent.dto.response.RentalSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 대여 목록 조회 (장비/고객 포함, 페이지당 쿼리 수 고정)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RentalQueryService {
+
+    private static final Comparator<RentalSummaryResponse> LATEST_FIRST =
+            Comparator.comparing(RentalSummaryResponse::getStartDate)
+                    .thenComparing(RentalSummaryResponse::getId)
+                    .reversed();
+
+    private final RentalRepository rentalRepository;
+    private final ArchivedRentalRepository archivedRentalRepository;
+
+    /**
+     * 대여 목록 요약 (DTO 프로젝션 - 목록 화면용)
+     *
+     * @param status null 이면 전체
+     */
+    public Page<RentalSummaryResponse> findSummaries(RentalStatus status, Pageable pageable) {
+        return rentalRepository.findSummaries(status, pageable);
+    }
+
+    /**
+     * 대여 목록 (엔티티 그래프 - 장비/고객 엔티티가 필요한 경우)
+     *
+     * @param status null 이면 전체
+     */
+    public Page<RentalSummaryResponse> findRentals(RentalStatus status, Pageable pageable) {
+        return rentalRepository.findWithMachineAndCustomer(status, pageable)
+                .map(RentalSummaryResponse::from);
+    }
+
+    /**
+     * 고객 대여 이력 (운영 테이블 + 보관 테이블, 최근 시작일 순)
+     * - 요청 페이지 끝까지의 행을 양쪽에서 각각 최근 순으로 읽어 합친 뒤 잘라낸다
+     */
+    public Page<RentalSummaryResponse> findCustomerHistory(Long customerId, Pageable pageable) {
+        int limit = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+        Pageable head = PageRequest.of(0, limit);
+
+        List<RentalSummaryResponse> merged = new ArrayList<>(rentalRepository.findCustomerHistory(customerId, head));
+        merged.addAll(archivedRentalRepository.findCustomerHistory(customerId, head));
+        merged.sort(LATEST_FIRST);
+
+        int from = (int) Math.min(pageable.getOffset(), merged.size());
+        int to = Math.min(from + pageable.getPageSize(), merged.size());
+        long total = rentalRepository.countByCustomerId(customerId) + archivedRentalRepository.countByCustomerId(customerId);
+        return new PageImpl<>(merged.subList(from, to), pageable, total);
+    }
+}
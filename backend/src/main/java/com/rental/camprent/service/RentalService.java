@@ -0,0 +1,243 @@
+package com.rental.camprent.service;
+
+import com.rental.camprent.domain.campingitem.CampingItem;
+import com.rental.camprent.domain.campingitem.CampingItemRepository;
+import com.rental.camprent.domain.campingitem.CampingItemStatus;
+import com.rental.camprent.domain.campingrental.Rental;
+import com.rental.camprent.domain.campingrental.RentalRepository;
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import com.rental.camprent.domain.campingrental.RentalTransitionEvent;
+import com.rental.camprent.domain.customer.Customer;
+import com.rental.camprent.domain.customer.CustomerRepository;
+import com.rental.camprent.dto.request.PackageReservationRequest;
+import com.rental.camprent.dto.request.RentalCreateRequest;
+import com.rental.camprent.dto.response.PackageReservationResponse;
+import com.rental.camprent.service.availability.AvailabilityService;
+import com.rental.camprent.service.metrics.OperationTimer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대여 상태 변경 조율 (상태 규칙은 Rental 엔티티, 가용 재고 반영은 AvailabilityService)
+ * - 상태가 바뀔 때마다 RentalTransitionEvent 발행
+ * - 작업별 처리 시간은 camprent.rental.transition 타이머로 남긴다 (커밋 시간 제외)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RentalService {
+
+    private static final String SYSTEM_ACTOR = "system";
+    private static final String METRIC_NAME = "camprent.rental.transition";
+
+    private final RentalRepository rentalRepository;
+    private final CampingItemRepository campingItemRepository;
+    private final CustomerRepository customerRepository;
+    private final AvailabilityService availabilityService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OperationTimer operationTimer;
+
+    /**
+     * 대여 신청 (재고 점유는 승인 시점)
+     */
+    public Long create(RentalCreateRequest request) {
+        return operationTimer.record(METRIC_NAME, "create", () -> {
+            if (request.getEndDate().isBefore(request.getStartDate())) {
+                throw new IllegalArgumentException("종료일은 시작일 이후여야 합니다.");
+            }
+            CampingItem item = campingItemRepository.findById(request.getItemId())
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 장비입니다. id=" + request.getItemId()));
+            Customer customer = customerRepository.findById(request.getCustomerId())
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 고객입니다. id=" + request.getCustomerId()));
+
+            Rental rental = rentalRepository.save(Rental.builder()
+                    .machine(item)
+                    .customer(customer)
+                    .startDate(request.getStartDate())
+                    .endDate(request.getEndDate())
+                    .deposit(request.getDeposit())
+                    .notes(request.getNotes())
+                    .build());
+            eventPublisher.publishEvent(RentalTransitionEvent.created(rental, currentActor()));
+            return rental.getId();
+        });
+    }
+
+    /**
+     * 패키지(묶음) 예약 - 구성 장비 전체를 같은 기간으로 승인 상태까지 한 번에 처리 (전부 성공하거나 전부 실패)
+     * - 장비 행은 ID 오름차순으로 한 번에 잠그고, 가용 재고 원장도 같은 순서로 잠가 묶음끼리 교착 상태를 막는다
+     * - 대여 insert 는 JDBC 배치로 묶여 커밋 시 한 번에 전송된다
+     */
+    public PackageReservationResponse reservePackage(PackageReservationRequest request) {
+        return operationTimer.record(METRIC_NAME, "reservePackage", () -> {
+            if (request.getEndDate().isBefore(request.getStartDate())) {
+                throw new IllegalArgumentException("종료일은 시작일 이후여야 합니다.");
+            }
+            Map<Long, Integer> quantities = new LinkedHashMap<>();
+            for (PackageReservationRequest.Item line : request.getItems()) {
+                quantities.merge(line.getItemId(), line.getQuantity(), Integer::sum);
+            }
+            Customer customer = customerRepository.findById(request.getCustomerId())
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 고객입니다. id=" + request.getCustomerId()));
+
+            List<CampingItem> items = campingItemRepository.findAllByIdForUpdate(quantities.keySet());
+            if (items.size() != quantities.size()) {
+                throw new IllegalArgumentException("존재하지 않는 장비가 포함되어 있습니다.");
+            }
+            for (CampingItem item : items) {
+                if (item.getStatus() == CampingItemStatus.UNDER_REPAIR || item.getStatus() == CampingItemStatus.OUT_OF_STOCK) {
+                    throw new IllegalStateException("대여할 수 없는 장비입니다. id=" + item.getId());
+                }
+            }
+            availabilityService.reserveAll(quantities, request.getStartDate(), request.getEndDate());
+
+            List<Rental> rentals = new ArrayList<>();
+            for (CampingItem item : items) {
+                for (int i = 0; i < quantities.get(item.getId()); i++) {
+                    Rental rental = Rental.builder()
+                            .machine(item)
+                            .customer(customer)
+                            .startDate(request.getStartDate())
+                            .endDate(request.getEndDate())
+                            .deposit(request.getDeposit())
+                            .notes(request.getNotes())
+                            .build();
+                    rental.approve();
+                    rentals.add(rental);
+                }
+            }
+            rentalRepository.saveAll(rentals);
+
+            String actor = currentActor();
+            BigDecimal totalCost = BigDecimal.ZERO;
+            for (Rental rental : rentals) {
+                eventPublisher.publishEvent(RentalTransitionEvent.created(rental, actor));   // 신청 없이 바로 승인 상태로 생성
+                totalCost = totalCost.add(rental.getTotalCost());
+            }
+            return new PackageReservationResponse(rentals.stream().map(Rental::getId).toList(), totalCost);
+        });
+    }
+
+    /**
+     * 대여 승인 - 대여 기간의 재고를 점유
+     */
+    public void approve(Long rentalId) {
+        operationTimer.record(METRIC_NAME, "approve", () -> {
+            Rental rental = getRental(rentalId);
+            RentalStatus previousStatus = rental.getStatus();
+            rental.approve();
+            availabilityService.reserve(rental.getMachine().getId(), rental.getStartDate(), rental.getEndDate());
+            publishTransition(rental, previousStatus);
+        });
+    }
+
+    /**
+     * 대여 시작
+     */
+    public void start(Long rentalId) {
+        operationTimer.record(METRIC_NAME, "start", () -> {
+            Rental rental = getRental(rentalId);
+            RentalStatus previousStatus = rental.getStatus();
+            rental.start();
+            publishTransition(rental, previousStatus);
+        });
+    }
+
+    /**
+     * 반납 처리 - 점유 중이던 재고 해제 (연체 중이었으면 오늘 날짜 점유도 해제)
+     */
+    public void complete(Long rentalId, LocalDate returnDate) {
+        operationTimer.record(METRIC_NAME, "complete", () -> {
+            Rental rental = getRental(rentalId);
+            RentalStatus previousStatus = rental.getStatus();
+            rental.complete(returnDate);
+            availabilityService.release(rental.getMachine().getId(), rental.getStartDate(), rental.getEndDate());
+            if (previousStatus == RentalStatus.OVERDUE) {
+                availabilityService.releaseOverdue(rental.getMachine().getId());
+            }
+            publishTransition(rental, previousStatus);
+        });
+    }
+
+    /**
+     * 대여 취소 - 승인 이후 취소라면 점유 중이던 재고 해제
+     */
+    public void cancel(Long rentalId) {
+        operationTimer.record(METRIC_NAME, "cancel", () -> {
+            Rental rental = getRental(rentalId);
+            RentalStatus previousStatus = rental.getStatus();
+            rental.cancel();
+            if (previousStatus.isReserving()) {
+                availabilityService.release(rental.getMachine().getId(), rental.getStartDate(), rental.getEndDate());
+            }
+            if (previousStatus == RentalStatus.OVERDUE) {
+                availabilityService.releaseOverdue(rental.getMachine().getId());
+            }
+            publishTransition(rental, previousStatus);
+        });
+    }
+
+    /**
+     * 연체 상태로 변경 - 반납될 때까지 오늘 날짜 재고 점유
+     */
+    public void markAsOverdue(Long rentalId) {
+        operationTimer.record(METRIC_NAME, "markAsOverdue", () -> {
+            Rental rental = getRental(rentalId);
+            RentalStatus previousStatus = rental.getStatus();
+            rental.markAsOverdue();
+            if (rental.getStatus() != previousStatus) {
+                availabilityService.holdOverdue(List.of(rental.getMachine().getId()));
+                publishTransition(rental, previousStatus);
+            }
+        });
+    }
+
+    /**
+     * 대여 기간 연장 - 늘어난 기간만큼 재고 추가 점유
+     */
+    public void extend(Long rentalId, LocalDate newEndDate) {
+        operationTimer.record(METRIC_NAME, "extend", () -> {
+            Rental rental = getRental(rentalId);
+            RentalStatus previousStatus = rental.getStatus();
+            LocalDate previousEndDate = rental.getEndDate();
+            BigDecimal previousTotalCost = rental.getTotalCost();
+            rental.extend(newEndDate);
+            if (newEndDate.isAfter(previousEndDate)) {
+                availabilityService.reserve(rental.getMachine().getId(), previousEndDate.plusDays(1), newEndDate);
+            }
+            eventPublisher.publishEvent(RentalTransitionEvent.of(
+                    rental, previousStatus, previousEndDate, previousTotalCost, currentActor()));
+        });
+    }
+
+    private void publishTransition(Rental rental, RentalStatus previousStatus) {
+        eventPublisher.publishEvent(RentalTransitionEvent.of(rental, previousStatus, currentActor()));
+    }
+
+    /**
+     * 변경 주체 - 인증된 사용자명, 없으면 system
+     */
+    private String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication.getName() == null) {
+            return SYSTEM_ACTOR;
+        }
+        return authentication.getName();
+    }
+
+    private Rental getRental(Long rentalId) {
+        return rentalRepository.findById(rentalId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 대여입니다. id=" + rentalId));
+    }
+}
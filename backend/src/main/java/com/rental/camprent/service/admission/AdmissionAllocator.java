@@ -0,0 +1,88 @@
+package com.rental.camprent.service.admission;
+
+import com.rental.camprent.domain.campingitem.CampingItem;
+import com.rental.camprent.domain.campingitem.CampingItemRepository;
+import com.rental.camprent.domain.campingitem.CampingItemStatus;
+import com.rental.camprent.domain.campingrental.Rental;
+import com.rental.camprent.domain.campingrental.RentalRepository;
+import com.rental.camprent.domain.campingrental.RentalTransitionEvent;
+import com.rental.camprent.domain.customer.Customer;
+import com.rental.camprent.domain.customer.CustomerRepository;
+import com.rental.camprent.dto.request.RentalCreateRequest;
+import com.rental.camprent.service.availability.AvailabilityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대기열 배치 배정 - 같은 장비의 신청 묶음을 트랜잭션 하나로 도착 순서대로 처리
+ * - 장비 조회와 대여 insert 배치가 묶음당 한 번이라 신청마다 같은 장비 행을 두고 경합하지 않는다
+ * - 재고가 모자란 신청은 매진으로 처리하고 다음 신청으로 넘어간다
+ */
+@Component
+@RequiredArgsConstructor
+class AdmissionAllocator {
+
+    private final CampingItemRepository campingItemRepository;
+    private final CustomerRepository customerRepository;
+    private final RentalRepository rentalRepository;
+    private final AvailabilityService availabilityService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @return 신청 순서대로 생성된 대여 (매진이면 null)
+     */
+    @Transactional
+    public List<Rental> allocate(Long itemId, List<AdmissionTicket> tickets) {
+        CampingItem item = campingItemRepository.findById(itemId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 장비입니다. id=" + itemId));
+        boolean rentable = item.getStatus() != CampingItemStatus.UNDER_REPAIR
+                && item.getStatus() != CampingItemStatus.OUT_OF_STOCK;
+
+        List<Rental> results = new ArrayList<>(tickets.size());
+        List<Rental> created = new ArrayList<>();
+        for (AdmissionTicket ticket : tickets) {
+            RentalCreateRequest request = ticket.request();
+            if (!rentable || !tryReserve(itemId, request)) {
+                results.add(null);
+                continue;
+            }
+            Customer customer = customerRepository.getReferenceById(request.getCustomerId());
+            Rental rental = Rental.builder()
+                    .machine(item)
+                    .customer(customer)
+                    .startDate(request.getStartDate())
+                    .endDate(request.getEndDate())
+                    .deposit(request.getDeposit())
+                    .notes(request.getNotes())
+                    .build();
+            rental.approve();
+            results.add(rental);
+            created.add(rental);
+        }
+        rentalRepository.saveAll(created);
+
+        for (int i = 0; i < tickets.size(); i++) {
+            if (results.get(i) != null) {
+                eventPublisher.publishEvent(RentalTransitionEvent.created(results.get(i), tickets.get(i).actor()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 기간 재고 점유 시도 (실패해도 원장은 그대로라 트랜잭션은 계속 쓸 수 있다)
+     */
+    private boolean tryReserve(Long itemId, RentalCreateRequest request) {
+        try {
+            availabilityService.reserve(itemId, request.getStartDate(), request.getEndDate());
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+}
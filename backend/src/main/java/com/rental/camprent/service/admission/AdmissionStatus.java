@@ -0,0 +1,12 @@
+package com.rental.camprent.service.admission;
+
+/**
+ * 대여 신청 접수 결과
+ */
+public enum AdmissionStatus {
+    QUEUED,         // 대기열에서 배정 대기 중
+    ACCEPTED,       // 재고 배정 완료 (승인 상태 대여 생성)
+    SOLD_OUT,       // 해당 기간 재고 없음
+    REJECTED,       // 대기열이 가득 차 접수 거절 (잠시 후 재시도)
+    FAILED          // 배정 처리 중 오류
+}
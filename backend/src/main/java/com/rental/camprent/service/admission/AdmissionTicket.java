@@ -0,0 +1,61 @@
+package com.rental.camprent.service.admission;
+
+import com.rental.camprent.dto.request.RentalCreateRequest;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 대기열에 들어간 대여 신청 1건 (번호 = 도착 순서)
+ */
+final class AdmissionTicket {
+
+    private final long id;
+    private final RentalCreateRequest request;
+    private final String actor;
+    private final CompletableFuture<AdmissionTicket> completion = new CompletableFuture<>();
+
+    private volatile AdmissionStatus status = AdmissionStatus.QUEUED;
+    private volatile Long rentalId;
+    private volatile long completedAtMillis;
+
+    AdmissionTicket(long id, RentalCreateRequest request, String actor) {
+        this.id = id;
+        this.request = request;
+        this.actor = actor;
+    }
+
+    void complete(AdmissionStatus status, Long rentalId) {
+        this.rentalId = rentalId;
+        this.status = status;
+        this.completedAtMillis = System.currentTimeMillis();
+        completion.complete(this);
+    }
+
+    long id() {
+        return id;
+    }
+
+    RentalCreateRequest request() {
+        return request;
+    }
+
+    String actor() {
+        return actor;
+    }
+
+    AdmissionStatus status() {
+        return status;
+    }
+
+    Long rentalId() {
+        return rentalId;
+    }
+
+    long completedAtMillis() {
+        return completedAtMillis;
+    }
+
+    CompletableFuture<AdmissionTicket> completion() {
+        return completion;
+    }
+}
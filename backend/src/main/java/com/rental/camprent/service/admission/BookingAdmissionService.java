@@ -0,0 +1,228 @@
+package com.rental.camprent.service.admission;
+
+import com.rental.camprent.domain.campingrental.Rental;
+import com.rental.camprent.domain.customer.CustomerRepository;
+import com.rental.camprent.dto.request.RentalCreateRequest;
+import com.rental.camprent.dto.response.AdmissionResponse;
+import com.rental.camprent.service.availability.AvailabilityService;
+import com.rental.camprent.service.metrics.OperationTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 성수기 대여 신청 접수 (장비별 대기열 + 묶음 배정)
+ * - 신청은 장비별 제한 크기 대기열에 도착 순서대로 넣고, 장비마다 작업 하나만 돌면서 묶음 단위로 재고를 배정한다
+ * - 대기열이 가득 차면 바로 거절하고(역압), 기간 재고가 이미 없으면 대기열에 넣지 않고 바로 매진으로 응답한다
+ * - 접수 후 잠깐만 결과를 기다리고, 그 안에 배정되지 않으면 접수 번호로 나중에 결과를 조회하게 한다
+ */
+@Slf4j
+@Service
+public class BookingAdmissionService {
+
+    private static final String METRIC_PREFIX = "camprent.admission";
+    private static final String SYSTEM_ACTOR = "system";
+
+    private final AdmissionAllocator allocator;
+    private final AvailabilityService availabilityService;
+    private final CustomerRepository customerRepository;
+    private final OperationTimer operationTimer;
+    private final MeterRegistry meterRegistry;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long acceptWaitMs;
+    private final long resultRetentionMs;
+
+    private final ConcurrentMap<Long, ItemQueue> queues = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, AdmissionTicket> tickets = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ExecutorService workers;
+
+    public BookingAdmissionService(AdmissionAllocator allocator,
+                                   AvailabilityService availabilityService,
+                                   CustomerRepository customerRepository,
+                                   OperationTimer operationTimer,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${camprent.admission.queue-capacity:500}") int queueCapacity,
+                                   @Value("${camprent.admission.batch-size:50}") int batchSize,
+                                   @Value("${camprent.admission.workers:4}") int workerCount,
+                                   @Value("${camprent.admission.accept-wait-ms:100}") long acceptWaitMs,
+                                   @Value("${camprent.admission.result-retention-seconds:600}") long resultRetentionSeconds) {
+        this.allocator = allocator;
+        this.availabilityService = availabilityService;
+        this.customerRepository = customerRepository;
+        this.operationTimer = operationTimer;
+        this.meterRegistry = meterRegistry;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.acceptWaitMs = acceptWaitMs;
+        this.resultRetentionMs = TimeUnit.SECONDS.toMillis(resultRetentionSeconds);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "booking-admission-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        meterRegistry.gauge(METRIC_PREFIX + ".queued", queued);
+    }
+
+    /**
+     * 대여 신청 접수
+     */
+    public AdmissionResponse submit(RentalCreateRequest request) {
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw new IllegalArgumentException("종료일은 시작일 이후여야 합니다.");
+        }
+        if (!customerRepository.existsById(request.getCustomerId())) {
+            throw new IllegalArgumentException("존재하지 않는 고객입니다. id=" + request.getCustomerId());
+        }
+        if (!availabilityService.isAvailable(request.getItemId(), request.getStartDate(), request.getEndDate(), 1)) {
+            return respond(AdmissionStatus.SOLD_OUT, null, null);
+        }
+
+        AdmissionTicket ticket = new AdmissionTicket(sequence.incrementAndGet(), request, currentActor());
+        ItemQueue queue = queues.computeIfAbsent(request.getItemId(), ItemQueue::new);
+        if (!queue.pending.offer(ticket)) {
+            return respond(AdmissionStatus.REJECTED, null, null);
+        }
+        queued.incrementAndGet();
+        tickets.put(ticket.id(), ticket);
+        schedule(queue);
+
+        try {
+            ticket.completion().get(acceptWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기열에서 순서를 기다리는 중 - 접수 번호로 조회
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("대여 신청 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+        return respond(ticket.status(), ticket.id(), ticket.rentalId());
+    }
+
+    /**
+     * 접수 결과 조회
+     */
+    public AdmissionResponse getResult(Long ticketId) {
+        AdmissionTicket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new IllegalArgumentException("존재하지 않거나 만료된 접수 번호입니다. id=" + ticketId);
+        }
+        return new AdmissionResponse(ticket.id(), ticket.status(), ticket.rentalId());
+    }
+
+    /**
+     * 처리가 끝난 지 오래된 접수 결과 정리
+     */
+    @Scheduled(fixedDelayString = "${camprent.admission.cleanup-interval-ms:60000}")
+    public void evictExpiredResults() {
+        long expiredBefore = System.currentTimeMillis() - resultRetentionMs;
+        tickets.values().removeIf(ticket ->
+                ticket.status() != AdmissionStatus.QUEUED && ticket.completedAtMillis() < expiredBefore);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("대여 신청 대기열 처리 중 종료 - 대기 {}건", queued.get());
+        }
+    }
+
+    /**
+     * 장비 대기열 처리 작업 등록 (장비마다 동시에 하나만)
+     */
+    private void schedule(ItemQueue queue) {
+        if (queue.scheduled.compareAndSet(false, true)) {
+            workers.execute(() -> drain(queue));
+        }
+    }
+
+    private void drain(ItemQueue queue) {
+        try {
+            List<AdmissionTicket> batch = new ArrayList<>(batchSize);
+            while (queue.pending.drainTo(batch, batchSize) > 0) {
+                queued.addAndGet(-batch.size());
+                allocate(queue.itemId, batch);
+                batch.clear();
+            }
+        } finally {
+            queue.scheduled.set(false);
+        }
+        // 작업을 끝내는 사이에 들어온 신청이 있으면 다시 등록
+        if (!queue.pending.isEmpty()) {
+            schedule(queue);
+        }
+    }
+
+    private void allocate(Long itemId, List<AdmissionTicket> batch) {
+        try {
+            List<Rental> rentals = operationTimer.record(METRIC_PREFIX + ".batch", "allocate",
+                    () -> allocator.allocate(itemId, batch));
+            for (int i = 0; i < batch.size(); i++) {
+                Rental rental = rentals.get(i);
+                complete(batch.get(i), rental != null ? AdmissionStatus.ACCEPTED : AdmissionStatus.SOLD_OUT,
+                        rental != null ? rental.getId() : null);
+            }
+        } catch (RuntimeException e) {
+            log.error("대여 신청 묶음 배정 실패 - itemId={}, {}건", itemId, batch.size(), e);
+            batch.forEach(ticket -> complete(ticket, AdmissionStatus.FAILED, null));
+        }
+    }
+
+    private void complete(AdmissionTicket ticket, AdmissionStatus status, Long rentalId) {
+        ticket.complete(status, rentalId);
+        meterRegistry.counter(METRIC_PREFIX + ".outcomes", "outcome", status.name().toLowerCase()).increment();
+    }
+
+    private AdmissionResponse respond(AdmissionStatus status, Long ticketId, Long rentalId) {
+        if (ticketId == null) {
+            meterRegistry.counter(METRIC_PREFIX + ".outcomes", "outcome", status.name().toLowerCase()).increment();
+        }
+        return new AdmissionResponse(ticketId, status, rentalId);
+    }
+
+    /**
+     * 변경 주체 - 인증된 사용자명, 없으면 system (배정은 작업 스레드에서 하므로 접수 시점에 정해 둔다)
+     */
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication.getName() == null) {
+            return SYSTEM_ACTOR;
+        }
+        return authentication.getName();
+    }
+
+    private final class ItemQueue {
+
+        private final Long itemId;
+        private final BlockingQueue<AdmissionTicket> pending = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private ItemQueue(Long itemId) {
+            this.itemId = itemId;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.rental.camprent.service.analytics;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import com.rental.camprent.domain.campingitem.CampingItemRepository;
+import com.rental.camprent.domain.campingitem.CategoryStock;
+import com.rental.camprent.domain.campingrental.ArchivedRentalRepository;
+import com.rental.camprent.domain.campingrental.RentalAnalyticsRow;
+import com.rental.camprent.domain.campingrental.RentalRepository;
+import com.rental.camprent.domain.common.Season;
+import com.rental.camprent.dto.response.RentalAnalyticsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 대여 분석 (카테고리 x 시즌 x 월 이용 일수/매출/가동률)
+ * - 대여 테이블을 직접 GROUP BY 하지 않고, 시작 시 읽어 둔 열 지향 스냅샷을 병렬로 집계한다
+ * - 스냅샷은 운영 테이블과 보관 테이블을 함께 적재하고, 이후 수정일시 기준으로 바뀐 대여만 주기적으로 다시 읽어 갱신한다
+ *   (보관으로 옮겨진 대여는 내용이 같으므로 스냅샷에 그대로 둔다)
+ * - 가동률 분모는 현재 보유 수량 기준
+ */
+@Slf4j
+@Service
+public class RentalAnalyticsService {
+
+    private static final int MAX_MONTHS = 36;
+    private static final int PARALLEL_CHUNK_ROWS = 16_384;
+    private static final long REFRESH_OVERLAP_SECONDS = 60;    // 커밋이 늦은 트랜잭션의 변경을 놓치지 않도록 겹쳐 읽는다
+
+    private final RentalRepository rentalRepository;
+    private final ArchivedRentalRepository archivedRentalRepository;
+    private final CampingItemRepository campingItemRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final RentalColumnStore store = new RentalColumnStore();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile LocalDateTime watermark;
+    private volatile LocalDateTime refreshedAt;
+
+    public RentalAnalyticsService(RentalRepository rentalRepository,
+                                  ArchivedRentalRepository archivedRentalRepository,
+                                  CampingItemRepository campingItemRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.rentalRepository = rentalRepository;
+        this.archivedRentalRepository = archivedRentalRepository;
+        this.campingItemRepository = campingItemRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 월별 집계 (from ~ to, 양 끝 포함)
+     */
+    public RentalAnalyticsResponse report(YearMonth from, YearMonth to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("종료 월은 시작 월 이후여야 합니다.");
+        }
+        if (from.until(to, ChronoUnit.MONTHS) + 1 > MAX_MONTHS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_MONTHS + "개월입니다.");
+        }
+        RentalCube.Months months = new RentalCube.Months(from, to);
+        Map<CampingCategory, Long> stock = stockByCategory();
+
+        long startedAt = System.nanoTime();
+        RentalCube cube = store.read(columns -> aggregate(columns, months));
+        log.debug("대여 분석 집계 - {}건, {}ms", store.size(), (System.nanoTime() - startedAt) / 1_000_000);
+
+        List<RentalAnalyticsResponse.Row> rows = new ArrayList<>();
+        for (CampingCategory category : CampingCategory.values()) {
+            for (int month = 0; month < months.count(); month++) {
+                YearMonth yearMonth = months.month(month);
+                int cell = RentalCube.cell(category.ordinal(), month, months.count());
+                long capacityDays = stock.getOrDefault(category, 0L) * yearMonth.lengthOfMonth();
+                rows.add(new RentalAnalyticsResponse.Row(
+                        category,
+                        Season.fromDate(yearMonth.atDay(1)),
+                        yearMonth,
+                        cube.startedRentals[cell],
+                        cube.rentalDays[cell],
+                        BigDecimal.valueOf(cube.revenueCents[cell], 2),
+                        capacityDays == 0 ? 0.0 : (double) cube.rentalDays[cell] / capacityDays));
+            }
+        }
+        return new RentalAnalyticsResponse(store.size(), refreshedAt, rows);
+    }
+
+    public int snapshotSize() {
+        return store.size();
+    }
+
+    /**
+     * 스냅샷 전체 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long startedAt = System.nanoTime();
+            LocalDateTime loadStartedAt = LocalDateTime.now();
+            store.clear();
+            load(rentalRepository::streamAnalyticsRows);
+            load(archivedRentalRepository::streamAnalyticsRows);
+            watermark = loadStartedAt.minusSeconds(REFRESH_OVERLAP_SECONDS);
+            refreshedAt = loadStartedAt;
+            log.info("대여 분석 스냅샷 적재 완료 - {}건, {}ms", store.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * 증분 갱신 - 마지막 갱신 이후 수정된 대여만 다시 읽어 덮어쓴다
+     */
+    @Scheduled(fixedDelayString = "${camprent.analytics.refresh-interval-ms:60000}",
+            initialDelayString = "${camprent.analytics.refresh-interval-ms:60000}")
+    public void refresh() {
+        LocalDateTime since = watermark;
+        if (since == null || !refreshing.compareAndSet(false, true)) {
+            return;    // 아직 전체 적재 전이거나 갱신 중
+        }
+        try {
+            LocalDateTime refreshStartedAt = LocalDateTime.now();
+            int changed = load(() -> rentalRepository.streamAnalyticsRowsUpdatedSince(since));
+            watermark = refreshStartedAt.minusSeconds(REFRESH_OVERLAP_SECONDS);
+            refreshedAt = refreshStartedAt;
+            if (changed > 0) {
+                log.debug("대여 분석 스냅샷 갱신 - {}건", changed);
+            }
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private int load(Supplier<Stream<RentalAnalyticsRow>> query) {
+        Integer loaded = readOnlyTransaction.execute(status -> {
+            int count = 0;
+            try (Stream<RentalAnalyticsRow> rows = query.get()) {
+                for (RentalAnalyticsRow row : (Iterable<RentalAnalyticsRow>) rows::iterator) {
+                    store.upsert(row);
+                    count++;
+                }
+            }
+            return count;
+        });
+        return loaded == null ? 0 : loaded;
+    }
+
+    /**
+     * 행 범위별로 나눠 병렬 집계 후 합산
+     */
+    private static RentalCube aggregate(RentalColumnStore.Columns columns, RentalCube.Months months) {
+        int chunks = Math.max(1, (columns.size() + PARALLEL_CHUNK_ROWS - 1) / PARALLEL_CHUNK_ROWS);
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> new RentalCube(months).accumulate(columns,
+                        chunk * PARALLEL_CHUNK_ROWS, Math.min(columns.size(), (chunk + 1) * PARALLEL_CHUNK_ROWS)))
+                .reduce(RentalCube::merge)
+                .orElseGet(() -> new RentalCube(months));
+    }
+
+    private Map<CampingCategory, Long> stockByCategory() {
+        Map<CampingCategory, Long> stock = new EnumMap<>(CampingCategory.class);
+        for (CategoryStock categoryStock : campingItemRepository.sumStockGroupByCategory()) {
+            stock.put(categoryStock.category(), categoryStock.stockQuantity());
+        }
+        return stock;
+    }
+}
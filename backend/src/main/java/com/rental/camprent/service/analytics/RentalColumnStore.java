@@ -0,0 +1,111 @@
+package com.rental.camprent.service.analytics;
+
+import com.rental.camprent.domain.campingrental.RentalAnalyticsRow;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 대여 분석용 열 지향 스냅샷 (대여 1건 = 각 배열의 같은 인덱스)
+ * - 객체 대신 기본형 배열로 들고 있어 전체 스캔이 빠르고 메모리가 작다
+ * - 대여 ID -> 행 번호 색인으로 변경된 대여는 제자리에서 덮어쓴다 (증분 갱신)
+ * - 집계는 읽기 락, 갱신은 쓰기 락
+ */
+class RentalColumnStore {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> rowByRentalId = new HashMap<>();
+
+    private int size;
+    private long[] rentalIds = new long[INITIAL_CAPACITY];
+    private byte[] categories = new byte[INITIAL_CAPACITY];    // CampingCategory.ordinal()
+    private byte[] statuses = new byte[INITIAL_CAPACITY];      // RentalStatus.ordinal()
+    private int[] startDays = new int[INITIAL_CAPACITY];       // 시작일 (epoch day)
+    private int[] endDays = new int[INITIAL_CAPACITY];         // 실제 반납일, 없으면 종료일 (epoch day)
+    private long[] costCents = new long[INITIAL_CAPACITY];     // 총 대여료 (원 단위 x 100)
+
+    /**
+     * 대여 행 추가/덮어쓰기
+     */
+    void upsert(RentalAnalyticsRow row) {
+        lock.writeLock().lock();
+        try {
+            Integer index = rowByRentalId.get(row.rentalId());
+            if (index == null) {
+                ensureCapacity(size + 1);
+                index = size++;
+                rowByRentalId.put(row.rentalId(), index);
+            }
+            rentalIds[index] = row.rentalId();
+            categories[index] = (byte) row.category().ordinal();
+            statuses[index] = (byte) row.status().ordinal();
+            startDays[index] = (int) row.startDate().toEpochDay();
+            endDays[index] = (int) (row.actualReturnDate() != null ? row.actualReturnDate() : row.endDate()).toEpochDay();
+            costCents[index] = toCents(row.totalCost());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            rowByRentalId.clear();
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 읽기 락을 잡은 상태로 열 배열을 넘겨 집계
+     */
+    <T> T read(Function<Columns, T> aggregation) {
+        lock.readLock().lock();
+        try {
+            return aggregation.apply(new Columns(size, categories, statuses, startDays, endDays, costCents));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= rentalIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, rentalIds.length * 2);
+        rentalIds = Arrays.copyOf(rentalIds, capacity);
+        categories = Arrays.copyOf(categories, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        startDays = Arrays.copyOf(startDays, capacity);
+        endDays = Arrays.copyOf(endDays, capacity);
+        costCents = Arrays.copyOf(costCents, capacity);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    /**
+     * 집계용 열 배열 (읽기 락 안에서만 사용)
+     */
+    record Columns(int size, byte[] categories, byte[] statuses, int[] startDays, int[] endDays, long[] costCents) {
+    }
+}
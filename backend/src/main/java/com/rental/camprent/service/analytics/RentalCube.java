@@ -0,0 +1,163 @@
+package com.rental.camprent.service.analytics;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import com.rental.camprent.domain.common.Season;
+import com.rental.camprent.domain.common.SeasonCalendar;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+/**
+ * 카테고리 x 월 집계 (대여 일수, 매출, 대여 시작 건수)
+ * - 여러 달에 걸친 대여의 매출은 일자별 요금 가중치(성수기 1.5배)로 나눠 각 달에 배분한다
+ * - 병렬 집계는 행 범위마다 큐브를 따로 만들고 merge 로 합친다
+ */
+final class RentalCube {
+
+    private static final int CATEGORIES = CampingCategory.values().length;
+    private static final int NORMAL_DAY_WEIGHT = 2;     // 비수기 1.0배
+    private static final int PEAK_DAY_WEIGHT = 3;       // 성수기 1.5배
+    private static final boolean[] COUNTED = countedStatuses();
+
+    private final Months months;
+    final long[] rentalDays;
+    final long[] revenueCents;
+    final long[] startedRentals;
+
+    RentalCube(Months months) {
+        this.months = months;
+        this.rentalDays = new long[CATEGORIES * months.count()];
+        this.revenueCents = new long[CATEGORIES * months.count()];
+        this.startedRentals = new long[CATEGORIES * months.count()];
+    }
+
+    static int cell(int category, int month, int monthCount) {
+        return category * monthCount + month;
+    }
+
+    /**
+     * 행 범위 [fromRow, toRow) 집계
+     */
+    RentalCube accumulate(RentalColumnStore.Columns columns, int fromRow, int toRow) {
+        int monthCount = months.count();
+        for (int row = fromRow; row < toRow; row++) {
+            if (!COUNTED[columns.statuses()[row]]) {
+                continue;
+            }
+            int start = columns.startDays()[row];
+            int end = columns.endDays()[row];
+            if (end < start || end < months.firstDay() || start > months.lastDay()) {
+                continue;
+            }
+            long totalWeight = weight(start, end);
+            int category = columns.categories()[row];
+            long cost = columns.costCents()[row];
+
+            int month = months.indexOf(Math.max(start, months.firstDay()));
+            if (start >= months.firstDay()) {
+                startedRentals[cell(category, month, monthCount)]++;
+            }
+            for (; month < monthCount && months.start(month) <= end; month++) {
+                int segmentStart = Math.max(start, months.start(month));
+                int segmentEnd = Math.min(end, months.end(month));
+                long days = segmentEnd - segmentStart + 1L;
+                long segmentWeight = days * (months.isPeak(month) ? PEAK_DAY_WEIGHT : NORMAL_DAY_WEIGHT);
+                int cell = cell(category, month, monthCount);
+                rentalDays[cell] += days;
+                revenueCents[cell] += totalWeight == 0 ? 0 : cost * segmentWeight / totalWeight;
+            }
+        }
+        return this;
+    }
+
+    RentalCube merge(RentalCube other) {
+        for (int i = 0; i < rentalDays.length; i++) {
+            rentalDays[i] += other.rentalDays[i];
+            revenueCents[i] += other.revenueCents[i];
+            startedRentals[i] += other.startedRentals[i];
+        }
+        return this;
+    }
+
+    private static long weight(int start, int end) {
+        long peakDays = SeasonCalendar.countDays(LocalDate.ofEpochDay(start), LocalDate.ofEpochDay(end)).getPeakSeasonDays();
+        long days = end - start + 1L;
+        return (days - peakDays) * NORMAL_DAY_WEIGHT + peakDays * PEAK_DAY_WEIGHT;
+    }
+
+    /**
+     * 매출/이용 실적으로 보는 상태 (신청/보증금 대기/취소 제외)
+     */
+    private static boolean[] countedStatuses() {
+        boolean[] counted = new boolean[RentalStatus.values().length];
+        for (RentalStatus status : RentalStatus.values()) {
+            counted[status.ordinal()] = status.isReserving()
+                    || status == RentalStatus.COMPLETED || status == RentalStatus.RETURED_DAMAGED;
+        }
+        return counted;
+    }
+
+    /**
+     * 집계 대상 월 구간 (epoch day 경계를 미리 계산)
+     */
+    static final class Months {
+
+        private final YearMonth first;
+        private final int[] starts;
+        private final int[] ends;
+        private final boolean[] peaks;
+
+        Months(YearMonth first, YearMonth last) {
+            this.first = first;
+            int count = (int) (first.until(last, ChronoUnit.MONTHS) + 1);
+            this.starts = new int[count];
+            this.ends = new int[count];
+            this.peaks = new boolean[count];
+            for (int i = 0; i < count; i++) {
+                YearMonth month = first.plusMonths(i);
+                starts[i] = (int) month.atDay(1).toEpochDay();
+                ends[i] = (int) month.atEndOfMonth().toEpochDay();
+                peaks[i] = Season.fromDate(month.atDay(1)).isPeakSeason();
+            }
+        }
+
+        int count() {
+            return starts.length;
+        }
+
+        YearMonth month(int index) {
+            return first.plusMonths(index);
+        }
+
+        int firstDay() {
+            return starts[0];
+        }
+
+        int lastDay() {
+            return ends[ends.length - 1];
+        }
+
+        int start(int index) {
+            return starts[index];
+        }
+
+        int end(int index) {
+            return ends[index];
+        }
+
+        boolean isPeak(int index) {
+            return peaks[index];
+        }
+
+        /**
+         * 해당 일자가 속한 월 인덱스 (범위 안의 일자만)
+         */
+        int indexOf(int epochDay) {
+            int found = Arrays.binarySearch(starts, epochDay);
+            return found >= 0 ? found : -found - 2;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.rental.camprent.service.archive;
+
+import com.rental.camprent.domain.campingrental.ArchivedRentalRepository;
+import com.rental.camprent.domain.campingrental.RentalRepository;
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 종료된 대여 보관 (rentals -> archived_rentals)
+ * - 종료 상태(반납/취소/파손반납)이고 반납일(없으면 종료일)이 보관 기준 일수보다 오래된 대여를 옮긴다
+ * - 반납/파손반납 대여는 정산 결과(rental_settlements)가 생긴 뒤에만 옮긴다 (정산은 운영 테이블만 읽음)
+ * - ID 순 청크마다 트랜잭션 하나로 INSERT ... SELECT 후 DELETE 하므로 두 테이블에 동시에 있거나 빠지는 행이 없다
+ * - 운영 테이블에는 진행 중이거나 최근 종료된 대여만 남아 가용 재고/연체 조회와 인덱스가 작게 유지된다
+ */
+@Slf4j
+@Component
+public class RentalArchiveJob {
+
+    private static final String METRIC_PREFIX = "camprent.rental.archive";
+
+    private final RentalRepository rentalRepository;
+    private final ArchivedRentalRepository archivedRentalRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int chunkSize;
+
+    private final Timer archiveTimer;
+    private final Counter archivedCounter;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public RentalArchiveJob(RentalRepository rentalRepository,
+                            ArchivedRentalRepository archivedRentalRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${camprent.archive.retention-days:365}") int retentionDays,
+                            @Value("${camprent.archive.chunk-size:500}") int chunkSize) {
+        this.rentalRepository = rentalRepository;
+        this.archivedRentalRepository = archivedRentalRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.archiveTimer = meterRegistry.timer(METRIC_PREFIX + ".duration");
+        this.archivedCounter = meterRegistry.counter(METRIC_PREFIX + ".rentals");
+    }
+
+    @Scheduled(cron = "${camprent.archive.cron:0 30 3 * * *}")
+    public void scheduledArchive() {
+        archive(LocalDate.now().minusDays(retentionDays));
+    }
+
+    /**
+     * 기준일 이전에 끝난 종료 상태 대여를 보관 테이블로 이동 (정산 전인 반납 대여는 남겨 둠)
+     *
+     * @return 옮긴 건수
+     */
+    public int archive(LocalDate cutoff) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("대여 보관 작업이 이미 실행 중입니다.");
+            return 0;
+        }
+        try {
+            long startedAt = System.nanoTime();
+            Set<RentalStatus> terminal = RentalStatus.terminalStatuses();
+            Set<RentalStatus> settled = RentalStatus.settledStatuses();
+            Pageable chunk = PageRequest.of(0, chunkSize);
+            int archived = 0;
+            long cursor = 0L;
+            while (true) {
+                List<Long> ids = rentalRepository.findArchivableIds(terminal, settled, cutoff, cursor, chunk);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                archived += moveChunk(ids, terminal);
+                cursor = ids.get(ids.size() - 1);
+            }
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+            archiveTimer.record(elapsed);
+            archivedCounter.increment(archived);
+            log.info("대여 보관 완료 - {}건 (기준일 {}), {}ms", archived, cutoff, elapsed.toMillis());
+            return archived;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int moveChunk(List<Long> ids, Set<RentalStatus> terminal) {
+        Integer moved = transactionTemplate.execute(status -> {
+            int copied = archivedRentalRepository.copyFromRentals(ids, LocalDateTime.now());
+            int deleted = rentalRepository.deleteArchived(ids, terminal);
+            if (copied != deleted) {
+                throw new IllegalStateException("보관 복사/삭제 건수가 다릅니다. copied=" + copied + ", deleted=" + deleted);
+            }
+            return deleted;
+        });
+        return moved == null ? 0 : moved;
+    }
+}
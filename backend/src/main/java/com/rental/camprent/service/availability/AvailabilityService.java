@@ -0,0 +1,402 @@
+package com.rental.camprent.service.availability;
+
+import com.rental.camprent.domain.campingitem.CampingItem;
+import com.rental.camprent.domain.campingitem.CampingItemRepository;
+import com.rental.camprent.domain.campingrental.Rental;
+import com.rental.camprent.domain.campingrental.RentalRepository;
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import com.rental.camprent.domain.campingrental.ReservedPeriod;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 기간별 가용 재고 원장
+ * - 기동 시 대여 이력(rentals)으로 재구성하고, 이후 대여 상태 변경 시 증분 반영한다
+ * - 연체 중인 대여는 종료일이 지났어도 장비가 돌아오지 않았으므로 반납/취소될 때까지 오늘 날짜를 점유한 것으로 본다
+ * - 가용 수량 조회는 DB 조회 없이 메모리에서 처리한다
+ * - 재구성은 새 원장 묶음을 만든 뒤 참조를 통째로 바꾼다. 원장 변경은 메모리 반영 동안만 재구성과 배타적이고(트랜잭션 경계를 넘어 잠금을 잡지 않음),
+ *   재구성은 진행 중인 트랜잭션의 커밋/롤백 후속 처리가 끝나기를 제한 시간만큼 기다린 뒤 DB 를 읽는다
+ * - 원장 묶음마다 세대 번호를 두고 커밋/롤백 후속 처리는 등록 시점 세대와 비교해, 재구성과 겹친 변경은 반영하지 않고 불일치로 기록한다
+ * - 예약보다 많이 해제되는 경우(중복 해제, DB 와 어긋남)는 경고 로그와 camprent.availability.ledger-drift 카운터로 남긴다
+ */
+@Slf4j
+@Service
+public class AvailabilityService {
+
+    private final CampingItemRepository campingItemRepository;
+    private final RentalRepository rentalRepository;
+    private final Counter driftCounter;
+    private final long rebuildDrainTimeoutMs;
+
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();   // 원장 메모리 변경(read) / 재구성(write)
+    private final AtomicInteger inFlight = new AtomicInteger();               // 커밋/롤백 후속 처리가 남은 트랜잭션 변경 수
+    private final Object inFlightMonitor = new Object();
+    private volatile Ledgers ledgers = new Ledgers(0L, new ConcurrentHashMap<>());
+
+    public AvailabilityService(CampingItemRepository campingItemRepository,
+                               RentalRepository rentalRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${camprent.availability.rebuild-drain-timeout-ms:10000}") long rebuildDrainTimeoutMs) {
+        this.campingItemRepository = campingItemRepository;
+        this.rentalRepository = rentalRepository;
+        this.driftCounter = meterRegistry.counter("camprent.availability.ledger-drift");
+        this.rebuildDrainTimeoutMs = rebuildDrainTimeoutMs;
+    }
+
+    /**
+     * 대여 이력으로 원장 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        rebuildLock.writeLock().lock();
+        try {
+            if (!awaitInFlight()) {
+                log.warn("진행 중인 원장 변경 {}건이 {}ms 안에 끝나지 않아 그대로 재구성합니다.", inFlight.get(), rebuildDrainTimeoutMs);
+            }
+            long generation = ledgers.generation() + 1;
+            // 읽는 동안 끝나는 이전 세대 변경도 세대 비교에 걸리도록 먼저 올림
+            ledgers = new Ledgers(generation, ledgers.byItem());
+            ledgers = new Ledgers(generation, load());
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 이전에 시작된 트랜잭션 변경의 커밋/롤백 후속 처리를 기다림 (재구성 잠금 중이라 새 변경은 늘지 않음)
+     * - 후속 처리는 잠금 없이 돌기 때문에, 그 트랜잭션이 새 변경 쪽 DB 잠금을 기다리더라도 제한 시간 뒤에는 풀린다
+     *
+     * @return 제한 시간 안에 모두 끝났으면 true
+     */
+    private boolean awaitInFlight() {
+        long deadline = System.nanoTime() + rebuildDrainTimeoutMs * 1_000_000L;
+        synchronized (inFlightMonitor) {
+            while (inFlight.get() > 0) {
+                long remainingMs = (deadline - System.nanoTime()) / 1_000_000L;
+                if (remainingMs <= 0) {
+                    return false;
+                }
+                try {
+                    inFlightMonitor.wait(remainingMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private ConcurrentMap<Long, ItemReservationLedger> load() {
+        LocalDate today = LocalDate.now();
+        long baseEpochDay = today.toEpochDay();
+
+        ConcurrentMap<Long, ItemReservationLedger> rebuilt = new ConcurrentHashMap<>();
+        for (CampingItem item : campingItemRepository.findAll()) {
+            rebuilt.put(item.getId(), newLedger(item, baseEpochDay));
+        }
+
+        int periods = 0;
+        for (ReservedPeriod period : rentalRepository.findReservedPeriods(RentalStatus.reservingStatuses(), today)) {
+            ItemReservationLedger ledger = rebuilt.get(period.itemId());
+            if (ledger != null) {
+                ledger.add(period.startDate().toEpochDay(), period.endDate().toEpochDay(), 1);
+                periods++;
+            }
+        }
+        for (Long itemId : rentalRepository.findItemIdsByStatus(RentalStatus.OVERDUE)) {
+            ItemReservationLedger ledger = rebuilt.get(itemId);
+            if (ledger != null) {
+                ledger.addOverdue(1);
+            }
+        }
+
+        log.info("가용 재고 원장 재구성 완료 - 장비 {}건, 예약 기간 {}건", rebuilt.size(), periods);
+        return rebuilt;
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 기간 내 대여 가능 수량 (기간 중 가장 많이 예약된 날 기준)
+     */
+    public int availableQuantity(Long itemId, LocalDate startDate, LocalDate endDate) {
+        validatePeriod(startDate, endDate);
+        return ledgerOf(itemId).available(startDate.toEpochDay(), endDate.toEpochDay());
+    }
+
+    /**
+     * 여러 장비의 기간 내 대여 가능 수량
+     */
+    public Map<Long, Integer> availableQuantities(Collection<Long> itemIds, LocalDate startDate, LocalDate endDate) {
+        validatePeriod(startDate, endDate);
+        long from = startDate.toEpochDay();
+        long to = endDate.toEpochDay();
+        Map<Long, Integer> result = new LinkedHashMap<>();
+        for (Long itemId : itemIds) {
+            result.put(itemId, ledgerOf(itemId).available(from, to));
+        }
+        return result;
+    }
+
+    public boolean isAvailable(Long itemId, LocalDate startDate, LocalDate endDate, int quantity) {
+        return availableQuantity(itemId, startDate, endDate) >= quantity;
+    }
+
+    // ===== 변경 =====
+
+    /**
+     * 기간 예약 (트랜잭션 롤백 시 자동 해제)
+     */
+    public void reserve(Long itemId, LocalDate startDate, LocalDate endDate) {
+        validateReservePeriod(startDate, endDate);
+        long from = startDate.toEpochDay();
+        long to = endDate.toEpochDay();
+        mutate(() -> {
+            ItemReservationLedger ledger = ledgerOf(itemId);
+            if (!ledger.tryReserve(from, to, 1)) {
+                throw new IllegalStateException("해당 기간에 대여 가능한 재고가 없습니다.");
+            }
+            onRollback(() -> subtract(itemId, ledger, from, to, 1));
+        });
+    }
+
+    /**
+     * 여러 장비 기간 예약 (전부 성공하거나 전부 실패, 트랜잭션 롤백 시 자동 해제)
+     * - 장비 ID 오름차순으로 원장을 잠가 묶음 예약끼리 교착 상태가 생기지 않게 한다
+     *
+     * @param quantities 장비 ID -> 수량
+     */
+    public void reserveAll(Map<Long, Integer> quantities, LocalDate startDate, LocalDate endDate) {
+        validateReservePeriod(startDate, endDate);
+        long from = startDate.toEpochDay();
+        long to = endDate.toEpochDay();
+
+        List<Long> itemIds = quantities.keySet().stream().sorted().toList();
+        int[] sortedQuantities = new int[itemIds.size()];
+        for (int i = 0; i < itemIds.size(); i++) {
+            sortedQuantities[i] = quantities.get(itemIds.get(i));
+        }
+
+        mutate(() -> {
+            List<ItemReservationLedger> sortedLedgers = new ArrayList<>(itemIds.size());
+            for (Long itemId : itemIds) {
+                sortedLedgers.add(ledgerOf(itemId));
+            }
+            int failed = ItemReservationLedger.tryReserveAll(sortedLedgers, sortedQuantities, from, to);
+            if (failed >= 0) {
+                throw new IllegalStateException("해당 기간에 대여 가능한 재고가 없습니다. itemId=" + itemIds.get(failed));
+            }
+            onRollback(() -> {
+                for (int i = 0; i < sortedLedgers.size(); i++) {
+                    subtract(itemIds.get(i), sortedLedgers.get(i), from, to, sortedQuantities[i]);
+                }
+            });
+        });
+    }
+
+    /**
+     * 기간 예약 해제 (트랜잭션 커밋 후 반영)
+     */
+    public void release(Long itemId, LocalDate startDate, LocalDate endDate) {
+        validatePeriod(startDate, endDate);
+        mutate(() -> {
+            ItemReservationLedger ledger = ledgerOf(itemId);
+            afterCommit(() -> subtract(itemId, ledger, startDate.toEpochDay(), endDate.toEpochDay(), 1));
+        });
+    }
+
+    /**
+     * 연체 처리된 대여의 장비를 반납될 때까지 오늘 날짜 점유로 표시 (트랜잭션 커밋 후 반영)
+     *
+     * @param itemIds 연체 처리된 대여의 장비 ID (대여 1건당 1개)
+     */
+    public void holdOverdue(Collection<Long> itemIds) {
+        mutate(() -> {
+            List<ItemReservationLedger> held = itemIds.stream().map(this::ledgerOf).toList();
+            afterCommit(() -> held.forEach(ledger -> ledger.addOverdue(1)));
+        });
+    }
+
+    /**
+     * 연체 중이던 대여 반납/취소 - 오늘 날짜 점유 해제 (트랜잭션 커밋 후 반영)
+     */
+    public void releaseOverdue(Long itemId) {
+        mutate(() -> {
+            ItemReservationLedger ledger = ledgerOf(itemId);
+            afterCommit(() -> {
+                if (ledger.addOverdue(-1) > 0) {
+                    driftCounter.increment();
+                    log.warn("가용 재고 원장 불일치 - 연체 수량보다 많이 해제됨. itemId={}", itemId);
+                }
+            });
+        });
+    }
+
+    /**
+     * 보유 수량 변경 반영 (커밋 후 호출)
+     * - 동시에 커밋된 변경이 순서 없이 도착할 수 있으므로, 이미 반영된 버전보다 오래된 변경은 무시한다
+     *
+     * @param version 변경을 커밋한 CampingItem.version
+     */
+    public void updateCapacity(Long itemId, int capacity, long version) {
+        mutate(() -> {
+            if (!ledgerOf(itemId).updateCapacity(capacity, version)) {
+                log.debug("지난 버전의 보유 수량 변경 무시 - itemId={}, version={}", itemId, version);
+            }
+        });
+    }
+
+    // ===== 내부 =====
+
+    ItemReservationLedger ledgerOf(Long itemId) {
+        ConcurrentMap<Long, ItemReservationLedger> current = ledgers.byItem();
+        ItemReservationLedger ledger = current.get(itemId);
+        if (ledger != null) {
+            return ledger;
+        }
+        // 기동 이후 등록된 장비는 최초 조회 시 원장 생성
+        CampingItem item = campingItemRepository.findById(itemId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 장비입니다. id=" + itemId));
+        ItemReservationLedger created = newLedger(item, LocalDate.now().toEpochDay());
+        ItemReservationLedger existing = current.putIfAbsent(itemId, created);
+        return existing != null ? existing : created;
+    }
+
+    private ItemReservationLedger newLedger(CampingItem item, long baseEpochDay) {
+        ItemReservationLedger ledger = new ItemReservationLedger(item.getStockQuantity(), baseEpochDay);
+        if (item.getVersion() != null) {
+            ledger.updateCapacity(item.getStockQuantity(), item.getVersion());
+        }
+        return ledger;
+    }
+
+    /**
+     * 원장 변경 - 메모리 반영 동안만 재구성과 겹치지 않게 한다
+     * - 커밋/롤백 후속 처리는 afterCommit/onRollback 으로 등록하고, 잠금 없이 세대 비교로 재구성과 구분한다
+     */
+    private void mutate(Runnable action) {
+        Lock lock = rebuildLock.readLock();
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 등록 시점 세대가 그대로일 때만 반영 - 사이에 재구성이 끼었으면 원장은 이미 DB 로 다시 만들어졌거나
+     * (재구성 대기 시간 초과로) 반영 여부를 알 수 없으므로 불일치로 기록하고 건너뛴다
+     */
+    private void applyFenced(long generation, Runnable action) {
+        long current = ledgers.generation();
+        if (current != generation) {
+            driftCounter.increment();
+            log.warn("가용 재고 원장 재구성과 겹친 변경은 반영하지 않습니다. 변경 세대={}, 현재 세대={}", generation, current);
+            return;
+        }
+        action.run();
+    }
+
+    private void completed() {
+        if (inFlight.decrementAndGet() == 0) {
+            synchronized (inFlightMonitor) {
+                inFlightMonitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * 예약 해제 - 예약된 수량보다 많이 해제되면 기록만 남기고 계속 진행 (요청 자체는 이미 커밋/롤백됨)
+     */
+    private void subtract(Long itemId, ItemReservationLedger ledger, long fromEpochDay, long toEpochDay, int quantity) {
+        int underflows = ledger.add(fromEpochDay, toEpochDay, -quantity);
+        if (underflows > 0) {
+            driftCounter.increment(underflows);
+            log.warn("가용 재고 원장 불일치 - 예약보다 많이 해제됨. itemId={}, 기간 {} ~ {}, {}일",
+                    itemId, LocalDate.ofEpochDay(fromEpochDay), LocalDate.ofEpochDay(toEpochDay), underflows);
+        }
+    }
+
+    private static void validatePeriod(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("종료일은 시작일 이후여야 합니다.");
+        }
+    }
+
+    /**
+     * 예약하면 원장 배열이 종료일까지 늘어나므로 최대 대여 기간을 넘는 기간은 받지 않는다
+     */
+    private static void validateReservePeriod(LocalDate startDate, LocalDate endDate) {
+        Rental.validatePeriod(startDate, endDate);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        long generation = ledgers.generation();
+        inFlight.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyFenced(generation, action);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                completed();
+            }
+        });
+    }
+
+    private void onRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        long generation = ledgers.generation();
+        inFlight.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_ROLLED_BACK) {
+                        applyFenced(generation, action);
+                    }
+                } finally {
+                    completed();
+                }
+            }
+        });
+    }
+
+    /**
+     * 원장 묶음과 세대 번호 (재구성할 때마다 1 증가)
+     */
+    private record Ledgers(long generation, ConcurrentMap<Long, ItemReservationLedger> byItem) {
+    }
+}
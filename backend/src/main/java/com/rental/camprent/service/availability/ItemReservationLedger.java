@@ -0,0 +1,196 @@
+package com.rental.camprent.service.availability;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 장비 1건의 일자별 예약 수량 원장 (day-bucketed counter)
+ * - reserved[i] = (baseEpochDay + i) 일자에 예약된 수량
+ * - baseEpochDay 이전 날짜는 지나간 날짜이므로 잘라내고 기록하지 않는다
+ * - 연체 중인 수량은 종료일이 지나 일자별 예약에서 빠지므로 따로 세고, 오늘까지 점유한 것으로 본다
+ * - 보유 수량은 CampingItem 의 @Version 과 함께 기록해, 커밋 순서와 다르게 늦게 도착한 이전 버전의 변경은 무시한다
+ * - 예약보다 많이 해제되면(중복 해제, DB 와 어긋남) 0 으로 맞추고 그런 날짜 수를 돌려준다 (호출하는 쪽에서 기록)
+ */
+final class ItemReservationLedger {
+
+    private static final int INITIAL_DAYS = 128;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long baseEpochDay;
+    private final LongSupplier today;       // 오늘 (epoch day)
+    private int[] reserved = new int[INITIAL_DAYS];
+    private int capacity;                   // 보유 수량 (CampingItem.stockQuantity)
+    private long capacityVersion = -1;      // capacity 를 읽은 CampingItem.version (-1: 모름)
+    private int overdue;                    // 연체 중(종료일이 지났는데 반납 전)인 수량
+
+    ItemReservationLedger(int capacity, long baseEpochDay) {
+        this(capacity, baseEpochDay, () -> LocalDate.now().toEpochDay());
+    }
+
+    ItemReservationLedger(int capacity, long baseEpochDay, LongSupplier today) {
+        this.capacity = capacity;
+        this.baseEpochDay = baseEpochDay;
+        this.today = today;
+    }
+
+    void lock() {
+        lock.lock();
+    }
+
+    void unlock() {
+        lock.unlock();
+    }
+
+    /**
+     * @param version 보유 수량을 읽은 CampingItem.version
+     * @return 이미 반영된 버전 이하라 무시했으면 false
+     */
+    boolean updateCapacity(int capacity, long version) {
+        lock.lock();
+        try {
+            if (version <= capacityVersion) {
+                return false;
+            }
+            this.capacity = capacity;
+            this.capacityVersion = version;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 연체 수량 증감
+     *
+     * @return 0 아래로 내려가 0 으로 맞췄으면 1
+     */
+    int addOverdue(int delta) {
+        lock.lock();
+        try {
+            overdue += delta;
+            if (overdue < 0) {
+                overdue = 0;
+                return 1;
+            }
+            return 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int available(long fromEpochDay, long toEpochDay) {
+        lock.lock();
+        try {
+            return availableLocked(fromEpochDay, toEpochDay);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean tryReserve(long fromEpochDay, long toEpochDay, int quantity) {
+        lock.lock();
+        try {
+            if (availableLocked(fromEpochDay, toEpochDay) < quantity) {
+                return false;
+            }
+            addLocked(fromEpochDay, toEpochDay, quantity);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 여러 장비 기간 예약 (전부 성공하거나 전부 실패)
+     * - 교착 상태를 막기 위해 ledgers 는 항상 같은 순서(장비 ID 오름차순)로 넘겨야 한다
+     *
+     * @return 재고가 부족한 첫 원장의 인덱스, 모두 예약했으면 -1
+     */
+    static int tryReserveAll(List<ItemReservationLedger> ledgers, int[] quantities,
+                             long fromEpochDay, long toEpochDay) {
+        int locked = 0;
+        try {
+            for (ItemReservationLedger ledger : ledgers) {
+                ledger.lock();
+                locked++;
+            }
+            for (int i = 0; i < ledgers.size(); i++) {
+                if (ledgers.get(i).availableLocked(fromEpochDay, toEpochDay) < quantities[i]) {
+                    return i;
+                }
+            }
+            for (int i = 0; i < ledgers.size(); i++) {
+                ledgers.get(i).addLocked(fromEpochDay, toEpochDay, quantities[i]);
+            }
+            return -1;
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                ledgers.get(i).unlock();
+            }
+        }
+    }
+
+    /**
+     * @return 0 아래로 내려가 0 으로 맞춘 날짜 수
+     */
+    int add(long fromEpochDay, long toEpochDay, int delta) {
+        lock.lock();
+        try {
+            return addLocked(fromEpochDay, toEpochDay, delta);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 기간 중 가장 많이 예약된 날 기준 잔여 수량, 기간에 오늘이 있으면 연체 수량도 점유로 본다 (lock 보유 상태에서 호출)
+     */
+    int availableLocked(long fromEpochDay, long toEpochDay) {
+        int from = (int) Math.max(0, fromEpochDay - baseEpochDay);
+        int to = (int) Math.min(reserved.length - 1, toEpochDay - baseEpochDay);
+        int peak = 0;
+        for (int i = from; i <= to; i++) {
+            if (reserved[i] > peak) {
+                peak = reserved[i];
+            }
+        }
+        if (overdue > 0) {
+            long day = today.getAsLong();
+            if (fromEpochDay <= day && day <= toEpochDay) {
+                long index = day - baseEpochDay;
+                int reservedToday = index >= 0 && index < reserved.length ? reserved[(int) index] : 0;
+                peak = Math.max(peak, reservedToday + overdue);
+            }
+        }
+        return Math.max(0, capacity - peak);
+    }
+
+    /**
+     * 기간 내 모든 날짜의 예약 수량 증감 (lock 보유 상태에서 호출)
+     *
+     * @return 0 아래로 내려가 0 으로 맞춘 날짜 수
+     */
+    int addLocked(long fromEpochDay, long toEpochDay, int delta) {
+        if (toEpochDay < baseEpochDay || toEpochDay < fromEpochDay) {
+            return 0;
+        }
+        int from = (int) Math.max(0, fromEpochDay - baseEpochDay);
+        int to = (int) (toEpochDay - baseEpochDay);
+        if (to >= reserved.length) {
+            reserved = Arrays.copyOf(reserved, Math.max(to + 1, reserved.length * 2));
+        }
+        int underflows = 0;
+        for (int i = from; i <= to; i++) {
+            int value = reserved[i] + delta;
+            if (value < 0) {
+                underflows++;
+                value = 0;
+            }
+            reserved[i] = value;
+        }
+        return underflows;
+    }
+}
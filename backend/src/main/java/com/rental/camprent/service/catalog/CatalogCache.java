@@ -0,0 +1,125 @@
+package com.rental.camprent.service.catalog;
+
+import com.rental.camprent.domain.campingitem.CampingItemChangedEvent;
+import com.rental.camprent.domain.campingitem.CampingItemsImportedEvent;
+import com.rental.camprent.dto.response.CampingItemResponse;
+import com.rental.camprent.support.LocalLruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 카탈로그 목록 2단계 캐시 (로컬 LRU -> 공유 캐시 -> DB)
+ * - 장비 변경이 커밋되면 관련 목록 키를 로컬/공유 캐시에서 지우고 다른 노드에도 전파한다
+ * - 공유 캐시는 조회 전에 읽은 세대로만 저장하므로, 다른 노드의 무효화가 조회 도중에 일어나면(전파가 아직 안 왔어도) 늦게 저장한 값은 버려진다
+ * - 공유 캐시 장애 시에는 캐시 없이 DB 조회로 동작한다
+ */
+@Slf4j
+@Component
+public class CatalogCache {
+
+    private final LocalLruCache<String, List<CampingItemResponse>> localCache;
+    private final SharedCatalogCache sharedCache;
+    private final AtomicLong invalidationVersion = new AtomicLong();  // 조회 중 무효화된 결과를 다시 채우지 않기 위한 버전
+
+    public CatalogCache(SharedCatalogCache sharedCache,
+                        @Value("${camprent.catalog-cache.local-max-entries:256}") int localMaxEntries,
+                        @Value("${camprent.catalog-cache.local-ttl-seconds:30}") long localTtlSeconds) {
+        this.localCache = new LocalLruCache<>(localMaxEntries, Duration.ofSeconds(localTtlSeconds));
+        this.sharedCache = sharedCache;
+        sharedCache.subscribe(this::evictLocal);
+    }
+
+    public List<CampingItemResponse> get(String key, Supplier<List<CampingItemResponse>> loader) {
+        List<CampingItemResponse> cached = localCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = invalidationVersion.get();
+        OptionalLong generation = sharedGeneration(key);
+        if (generation.isPresent()) {
+            Optional<List<CampingItemResponse>> shared = getShared(key, generation.getAsLong());
+            if (shared.isPresent()) {
+                if (invalidationVersion.get() == version) {
+                    localCache.put(key, shared.get());
+                }
+                return shared.get();
+            }
+        }
+
+        List<CampingItemResponse> loaded = List.copyOf(loader.get());
+        if (invalidationVersion.get() == version) {
+            generation.ifPresent(g -> putShared(key, g, loaded));
+            localCache.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 장비 변경 커밋 후 관련 목록 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(CampingItemChangedEvent event) {
+        invalidate(CatalogCacheKeys.affectedBy(event));
+    }
+
+    /**
+     * 일괄 등록 청크 커밋 후 관련 목록 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemsImported(CampingItemsImportedEvent event) {
+        invalidate(CatalogCacheKeys.affectedBy(event));
+    }
+
+    void invalidate(Set<String> keys) {
+        evictLocal(keys);
+        try {
+            sharedCache.evict(keys);
+            sharedCache.publishInvalidation(keys);
+        } catch (RuntimeException e) {
+            log.warn("공유 카탈로그 캐시 무효화 실패 - keys={}", keys, e);
+        }
+    }
+
+    private void evictLocal(Collection<String> keys) {
+        invalidationVersion.incrementAndGet();
+        keys.forEach(localCache::remove);
+    }
+
+    private OptionalLong sharedGeneration(String key) {
+        try {
+            return OptionalLong.of(sharedCache.generation(key));
+        } catch (RuntimeException e) {
+            log.warn("공유 카탈로그 캐시 세대 조회 실패 - key={}", key, e);
+            return OptionalLong.empty();
+        }
+    }
+
+    private Optional<List<CampingItemResponse>> getShared(String key, long generation) {
+        try {
+            return sharedCache.get(key, generation);
+        } catch (RuntimeException e) {
+            log.warn("공유 카탈로그 캐시 조회 실패 - key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    private void putShared(String key, long generation, List<CampingItemResponse> items) {
+        try {
+            sharedCache.put(key, generation, items);
+        } catch (RuntimeException e) {
+            log.warn("공유 카탈로그 캐시 저장 실패 - key={}", key, e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.rental.camprent.service.catalog;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import com.rental.camprent.domain.campingitem.CampingItemChangedEvent;
+import com.rental.camprent.domain.campingitem.CampingItemStatus;
+import com.rental.camprent.domain.campingitem.CampingItemsImportedEvent;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 카탈로그 캐시 키 (카테고리/상태별 목록)
+ */
+final class CatalogCacheKeys {
+
+    private CatalogCacheKeys() {
+    }
+
+    static String category(CampingCategory category) {
+        return "category:" + category.name();
+    }
+
+    static String status(CampingItemStatus status) {
+        return "status:" + status.name();
+    }
+
+    static String categoryAndStatus(CampingCategory category, CampingItemStatus status) {
+        return "category:" + category.name() + ":status:" + status.name();
+    }
+
+    /**
+     * 장비 변경으로 내용이 바뀌는 목록 키 (변경 전/후 상태 모두)
+     */
+    static Set<String> affectedBy(CampingItemChangedEvent event) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(category(event.category()));
+        for (CampingItemStatus status : new CampingItemStatus[]{event.previousStatus(), event.status()}) {
+            if (status != null) {
+                keys.add(status(status));
+                keys.add(categoryAndStatus(event.category(), status));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 일괄 등록으로 내용이 바뀌는 목록 키
+     */
+    static Set<String> affectedBy(CampingItemsImportedEvent event) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (CampingCategory category : event.categories()) {
+            keys.add(category(category));
+            for (CampingItemStatus status : event.statuses()) {
+                keys.add(categoryAndStatus(category, status));
+            }
+        }
+        for (CampingItemStatus status : event.statuses()) {
+            keys.add(status(status));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,27 @@
+package com.rental.camprent.service.catalog;
+
+import com.rental.camprent.domain.campingitem.CampingItemStatus;
+
+/**
+ * 카탈로그 키셋 커서 (마지막으로 읽은 장비의 상태, ID) - "상태:ID" 형식
+ */
+record CatalogCursor(CampingItemStatus status, long id) {
+
+    static CatalogCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        int separator = cursor.indexOf(':');
+        try {
+            return new CatalogCursor(
+                    CampingItemStatus.valueOf(cursor.substring(0, separator)),
+                    Long.parseLong(cursor.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다. cursor=" + cursor);
+        }
+    }
+
+    String encode() {
+        return status.name() + ":" + id;
+    }
+}
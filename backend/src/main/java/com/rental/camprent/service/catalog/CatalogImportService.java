@@ -0,0 +1,336 @@
+package com.rental.camprent.service.catalog;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import com.rental.camprent.domain.campingitem.CampingItem;
+import com.rental.camprent.domain.campingitem.CampingItemRepository;
+import com.rental.camprent.domain.campingitem.CampingItemStatus;
+import com.rental.camprent.domain.campingitem.CampingItemsImportedEvent;
+import com.rental.camprent.dto.request.CampingItemCreateRequest;
+import com.rental.camprent.dto.response.CatalogImportResponse;
+import com.rental.camprent.dto.response.ImportRowError;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 장비 일괄 등록 (JSON 배열 / CSV 스트림)
+ * - 입력을 청크 단위로 읽어 병렬 검증 후 JDBC 배치 insert 로 저장하고, 청크마다 커밋한다
+ * - 청크 저장이 실패하면 해당 청크만 행 단위로 다시 저장해 실패 행만 골라낸다
+ */
+@Slf4j
+@Service
+public class CatalogImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final String CSV_HEADER = "name,category,model,description,stockQuantity,baseDailyRate,status";
+
+    private final CampingItemRepository campingItemRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public CatalogImportService(CampingItemRepository campingItemRepository,
+                                EntityManager entityManager,
+                                PlatformTransactionManager transactionManager,
+                                Validator validator,
+                                ObjectMapper objectMapper,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${camprent.catalog-import.chunk-size:1000}") int chunkSize) {
+        this.campingItemRepository = campingItemRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * JSON 배열 ([{...}, {...}]) 일괄 등록 - 객체가 아닌 원소는 실패 행으로 남기고 건너뛴다
+     * - 배열 중간에 구문 오류가 있거나 입력이 잘리면 그 행을 마지막 실패 행으로 남기고 멈춘다
+     *   (앞 청크는 이미 커밋됐으므로 요청 전체를 실패시키지 않고 부분 결과를 돌려준다)
+     */
+    public CatalogImportResponse importJson(InputStream inputStream) {
+        return importRows(rows -> {
+            try (JsonParser parser = objectMapper.createParser(inputStream)) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IllegalArgumentException("JSON 배열 형식이어야 합니다.");
+                }
+                long rowNumber = 1;     // 읽고 있는 행
+                try {
+                    JsonToken token;
+                    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                        if (token == null) {
+                            rows.accept(ImportRow.failed(rowNumber, "JSON 배열이 닫히지 않았습니다. 이후 입력은 처리하지 않았습니다."));
+                            return;
+                        }
+                        if (token != JsonToken.START_OBJECT) {
+                            parser.skipChildren();      // 중첩 배열이면 통째로 건너뜀
+                            rows.accept(ImportRow.failed(rowNumber++, "형식 오류: 장비 정보는 JSON 객체여야 합니다."));
+                            continue;
+                        }
+                        JsonNode node = objectMapper.readTree(parser);
+                        try {
+                            rows.accept(ImportRow.of(rowNumber, objectMapper.treeToValue(node, CampingItemCreateRequest.class)));
+                        } catch (JacksonException e) {
+                            rows.accept(ImportRow.failed(rowNumber, "형식 오류: " + e.getOriginalMessage()));
+                        }
+                        rowNumber++;
+                    }
+                } catch (StreamReadException e) {
+                    rows.accept(ImportRow.failed(rowNumber,
+                            "JSON 구문 오류: " + e.getOriginalMessage() + " (이후 입력은 처리하지 않았습니다.)"));
+                }
+            }
+        });
+    }
+
+    /**
+     * CSV (첫 줄 헤더: name,category,model,description,stockQuantity,baseDailyRate,status) 일괄 등록
+     */
+    public CatalogImportResponse importCsv(InputStream inputStream) {
+        return importRows(rows -> {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+                String header = reader.readLine();
+                if (header == null || !CSV_HEADER.equals(header.strip())) {
+                    throw new IllegalArgumentException("CSV 헤더는 " + CSV_HEADER + " 이어야 합니다.");
+                }
+                long rowNumber = 0;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    rowNumber++;
+                    rows.accept(parseCsvRow(rowNumber, line));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    // ===== 청크 처리 =====
+
+    private CatalogImportResponse importRows(Consumer<Consumer<ImportRow>> reader) {
+        ImportProgress progress = new ImportProgress();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        reader.accept(row -> {
+            chunk.add(row);
+            if (chunk.size() >= chunkSize) {
+                processChunk(chunk, progress);
+                chunk.clear();
+            }
+        });
+        if (!chunk.isEmpty()) {
+            processChunk(chunk, progress);
+        }
+        log.info("장비 일괄 등록 완료 - 전체 {}건, 성공 {}건, 실패 {}건",
+                progress.totalRows, progress.importedRows, progress.failedRows);
+        return progress.toResponse();
+    }
+
+    private void processChunk(List<ImportRow> chunk, ImportProgress progress) {
+        progress.totalRows += chunk.size();
+
+        // 1. 병렬 검증
+        List<ImportRow> validated = chunk.parallelStream()
+                .map(this::validate)
+                .toList();
+        List<ImportRow> valid = new ArrayList<>(validated.size());
+        for (ImportRow row : validated) {
+            if (row.error() != null) {
+                progress.fail(row.rowNumber(), row.error());
+            } else {
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        // 2. 청크 단위 배치 insert (실패 시 행 단위로 재시도)
+        try {
+            List<CampingItem> saved = transactionTemplate.execute(status -> insert(valid));
+            progress.importedRows += saved.size();
+            publishImported(saved);
+        } catch (RuntimeException chunkFailure) {
+            log.warn("장비 일괄 등록 청크 실패, 행 단위로 재시도 - rows {}~{}",
+                    valid.get(0).rowNumber(), valid.get(valid.size() - 1).rowNumber(), chunkFailure);
+            List<CampingItem> saved = new ArrayList<>();
+            for (ImportRow row : valid) {
+                try {
+                    saved.addAll(transactionTemplate.execute(status -> insert(List.of(row))));
+                    progress.importedRows++;
+                } catch (RuntimeException rowFailure) {
+                    progress.fail(row.rowNumber(), "저장 실패: " + rowFailure.getMessage());
+                }
+            }
+            publishImported(saved);
+        }
+    }
+
+    private List<CampingItem> insert(List<ImportRow> rows) {
+        List<CampingItem> items = rows.stream()
+                .map(row -> toEntity(row.request()))
+                .toList();
+        List<CampingItem> saved = campingItemRepository.saveAll(items);
+        campingItemRepository.flush();
+        entityManager.clear();      // 청크마다 영속성 컨텍스트 비움
+        return saved;
+    }
+
+    private void publishImported(List<CampingItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        Set<CampingCategory> categories = items.stream()
+                .map(CampingItem::getCategory)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(CampingCategory.class)));
+        Set<CampingItemStatus> statuses = items.stream()
+                .map(CampingItem::getStatus)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(CampingItemStatus.class)));
+        eventPublisher.publishEvent(new CampingItemsImportedEvent(
+                items.stream().map(CampingItem::getId).toList(), categories, statuses));
+    }
+
+    private ImportRow validate(ImportRow row) {
+        if (row.error() != null) {
+            return row;
+        }
+        Set<ConstraintViolation<CampingItemCreateRequest>> violations = validator.validate(row.request());
+        if (violations.isEmpty()) {
+            return row;
+        }
+        String message = violations.stream()
+                .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+        return ImportRow.failed(row.rowNumber(), message);
+    }
+
+    private static CampingItem toEntity(CampingItemCreateRequest request) {
+        return CampingItem.builder()
+                .name(request.getName())
+                .category(request.getCategory())
+                .model(request.getModel())
+                .description(request.getDescription())
+                .stockQuantity(request.getStockQuantity())
+                .baseDailyRate(request.getBaseDailyRate())
+                .status(request.getStatus())
+                .build();
+    }
+
+    // ===== CSV =====
+
+    private static ImportRow parseCsvRow(long rowNumber, String line) {
+        List<String> columns = splitCsv(line);
+        if (columns.size() != 7) {
+            return ImportRow.failed(rowNumber, "컬럼 수가 7개가 아닙니다. (" + columns.size() + "개)");
+        }
+        try {
+            return ImportRow.of(rowNumber, new CampingItemCreateRequest(
+                    columns.get(0),
+                    CampingCategory.valueOf(columns.get(1).strip()),
+                    columns.get(2),
+                    columns.get(3),
+                    Integer.valueOf(columns.get(4).strip()),
+                    new BigDecimal(columns.get(5).strip()),
+                    CampingItemStatus.valueOf(columns.get(6).strip())));
+        } catch (IllegalArgumentException e) {
+            return ImportRow.failed(rowNumber, "형식 오류: " + e.getMessage());
+        }
+    }
+
+    /**
+     * CSV 한 줄 분리 (큰따옴표로 감싼 값, "" 이스케이프 지원)
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        columns.add(current.toString());
+        return columns;
+    }
+
+    // ===== 내부 타입 =====
+
+    private record ImportRow(long rowNumber, CampingItemCreateRequest request, String error) {
+
+        static ImportRow of(long rowNumber, CampingItemCreateRequest request) {
+            return new ImportRow(rowNumber, request, null);
+        }
+
+        static ImportRow failed(long rowNumber, String error) {
+            return new ImportRow(rowNumber, null, error);
+        }
+    }
+
+    private static final class ImportProgress {
+
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+        private final List<ImportRowError> errors = new ArrayList<>();
+
+        void fail(long rowNumber, String message) {
+            failedRows++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportRowError(rowNumber, message));
+            }
+        }
+
+        CatalogImportResponse toResponse() {
+            return new CatalogImportResponse(totalRows, importedRows, failedRows, List.copyOf(errors));
+        }
+    }
+}
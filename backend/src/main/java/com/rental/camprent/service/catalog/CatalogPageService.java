@@ -0,0 +1,65 @@
+package com.rental.camprent.service.catalog;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import com.rental.camprent.domain.campingitem.CampingItemRepository;
+import com.rental.camprent.domain.campingitem.CampingItemStatus;
+import com.rental.camprent.dto.response.CampingItemResponse;
+import com.rental.camprent.dto.response.CatalogPageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카탈로그 페이지 조회 (키셋 페이징)
+ * - (category, status, id) 순서로 커서 다음부터 읽기 때문에 깊은 페이지도 첫 페이지와 비용이 같다
+ * - 엔티티 대신 응답 DTO 를 바로 조회하므로 영속성 컨텍스트에 남는 것이 없다
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CatalogPageService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final CampingItemRepository campingItemRepository;
+
+    /**
+     * @param status 지정하지 않으면 상태 순서(enum 순)대로 이어서 조회
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public CatalogPageResponse findPage(CampingCategory category, CampingItemStatus status, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        CatalogCursor after = CatalogCursor.decode(cursor);
+        if (after != null && status != null && after.status() != status) {
+            throw new IllegalArgumentException("커서의 상태가 조회 조건과 다릅니다. cursor=" + cursor);
+        }
+
+        CampingItemStatus[] statuses = status != null ? new CampingItemStatus[]{status} : CampingItemStatus.values();
+        List<CampingItemResponse> items = new ArrayList<>(pageSize + 1);
+        for (CampingItemStatus current : statuses) {
+            if (after != null && current.ordinal() < after.status().ordinal()) {
+                continue;
+            }
+            long afterId = (after != null && current == after.status()) ? after.id() : 0L;
+            int remaining = pageSize + 1 - items.size();    // 다음 페이지 존재 여부 확인용 1건 추가
+            items.addAll(campingItemRepository.findPageByCategoryAndStatus(
+                    category, current, afterId, PageRequest.of(0, remaining)));
+            if (items.size() > pageSize) {
+                break;
+            }
+        }
+
+        boolean hasNext = items.size() > pageSize;
+        List<CampingItemResponse> page = hasNext ? items.subList(0, pageSize) : items;
+        String nextCursor = null;
+        if (hasNext) {
+            CampingItemResponse last = page.get(page.size() - 1);
+            nextCursor = new CatalogCursor(last.getStatus(), last.getId()).encode();
+        }
+        return new CatalogPageResponse(List.copyOf(page), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,43 @@
+package com.rental.camprent.service.catalog;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import com.rental.camprent.domain.campingitem.CampingItem;
+import com.rental.camprent.domain.campingitem.CampingItemRepository;
+import com.rental.camprent.domain.campingitem.CampingItemStatus;
+import com.rental.camprent.dto.response.CampingItemResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 카탈로그 목록 조회 (카테고리/상태별, 캐시 적용)
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogQueryService {
+
+    private final CampingItemRepository campingItemRepository;
+    private final CatalogCache catalogCache;
+
+    public List<CampingItemResponse> findByCategory(CampingCategory category) {
+        return catalogCache.get(CatalogCacheKeys.category(category),
+                () -> toResponses(campingItemRepository.findByCategory(category)));
+    }
+
+    public List<CampingItemResponse> findByStatus(CampingItemStatus status) {
+        return catalogCache.get(CatalogCacheKeys.status(status),
+                () -> toResponses(campingItemRepository.findByStatus(status)));
+    }
+
+    public List<CampingItemResponse> findByCategoryAndStatus(CampingCategory category, CampingItemStatus status) {
+        return catalogCache.get(CatalogCacheKeys.categoryAndStatus(category, status),
+                () -> toResponses(campingItemRepository.findByCategoryAndStatus(category, status)));
+    }
+
+    private static List<CampingItemResponse> toResponses(List<CampingItem> items) {
+        return items.stream()
+                .map(CampingItemResponse::from)
+                .toList();
+    }
+}
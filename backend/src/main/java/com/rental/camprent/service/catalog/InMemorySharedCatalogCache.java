@@ -0,0 +1,75 @@
+package com.rental.camprent.service.catalog;
+
+import com.rental.camprent.dto.response.CampingItemResponse;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 공유 캐시의 메모리 구현 (Redis 없이 단일 노드/테스트 실행용)
+ */
+public class InMemorySharedCatalogCache implements SharedCatalogCache {
+
+    private final long ttlNanos;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final List<Consumer<Collection<String>>> listeners = new CopyOnWriteArrayList<>();
+
+    public InMemorySharedCatalogCache(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public long generation(String key) {
+        AtomicLong generation = generations.get(key);
+        return generation == null ? 0L : generation.get();
+    }
+
+    @Override
+    public Optional<List<CampingItemResponse>> get(String key, long generation) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.generation != generation) {
+            return Optional.empty();
+        }
+        if (entry.expiresAt - System.nanoTime() < 0) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.items);
+    }
+
+    @Override
+    public void put(String key, long generation, List<CampingItemResponse> items) {
+        Entry entry = new Entry(items, generation, System.nanoTime() + ttlNanos);
+        // 이미 무효화된 세대면 저장하지 않음
+        entries.compute(key, (k, current) -> generation == generation(key) ? entry : current);
+    }
+
+    @Override
+    public void evict(Collection<String> keys) {
+        for (String key : keys) {
+            generations.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+            entries.remove(key);
+        }
+    }
+
+    @Override
+    public void publishInvalidation(Collection<String> keys) {
+        listeners.forEach(listener -> listener.accept(keys));
+    }
+
+    @Override
+    public void subscribe(Consumer<Collection<String>> listener) {
+        listeners.add(listener);
+    }
+
+    private record Entry(List<CampingItemResponse> items, long generation, long expiresAt) {
+    }
+}
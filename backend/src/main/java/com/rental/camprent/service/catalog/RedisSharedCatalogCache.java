@@ -0,0 +1,89 @@
+package com.rental.camprent.service.catalog;
+
+import com.rental.camprent.dto.response.CampingItemResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 공유 캐시의 Redis 구현
+ * - 목록은 세대별 키(camprent:catalog:{key}@{세대})에 JSON 문자열로 저장하고, 세대는 camprent:catalog:gen:{key} 카운터로 둔다
+ * - 무효화는 세대 카운터를 INCR 하고(이전 세대 값은 TTL 로 사라짐), pub/sub 채널로 모든 노드에 전파한다
+ */
+@Slf4j
+public class RedisSharedCatalogCache implements SharedCatalogCache {
+
+    public static final String INVALIDATION_CHANNEL = "camprent:catalog:invalidate";
+    private static final String KEY_PREFIX = "camprent:catalog:";
+    private static final String GENERATION_PREFIX = "camprent:catalog:gen:";
+    private static final TypeReference<List<CampingItemResponse>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final List<Consumer<Collection<String>>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisSharedCatalogCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public long generation(String key) {
+        String generation = redisTemplate.opsForValue().get(GENERATION_PREFIX + key);
+        return generation == null ? 0L : Long.parseLong(generation);
+    }
+
+    @Override
+    public Optional<List<CampingItemResponse>> get(String key, long generation) {
+        String json = redisTemplate.opsForValue().get(valueKey(key, generation));
+        if (json == null) {
+            return Optional.empty();
+        }
+        return Optional.of(objectMapper.readValue(json, LIST_TYPE));
+    }
+
+    @Override
+    public void put(String key, long generation, List<CampingItemResponse> items) {
+        redisTemplate.opsForValue().set(valueKey(key, generation), objectMapper.writeValueAsString(items), ttl);
+    }
+
+    @Override
+    public void evict(Collection<String> keys) {
+        keys.forEach(key -> redisTemplate.opsForValue().increment(GENERATION_PREFIX + key));
+    }
+
+    @Override
+    public void publishInvalidation(Collection<String> keys) {
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.join(",", keys));
+    }
+
+    @Override
+    public void subscribe(Consumer<Collection<String>> listener) {
+        listeners.add(listener);
+    }
+
+    private static String valueKey(String key, long generation) {
+        return KEY_PREFIX + key + "@" + generation;
+    }
+
+    /**
+     * pub/sub 채널 수신 (RedisMessageListenerContainer 에서 호출)
+     */
+    public void onInvalidationMessage(String message) {
+        List<String> keys = Arrays.asList(message.split(","));
+        log.debug("카탈로그 캐시 무효화 수신 - {}", keys);
+        listeners.forEach(listener -> listener.accept(keys));
+    }
+}
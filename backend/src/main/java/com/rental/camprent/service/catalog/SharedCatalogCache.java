@@ -0,0 +1,40 @@
+package com.rental.camprent.service.catalog;
+
+import com.rental.camprent.dto.response.CampingItemResponse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 공유 카탈로그 캐시 (2차 캐시)
+ * - 키마다 세대(generation)를 두고 값은 세대별로 저장한다. 무효화는 세대를 올리므로,
+ *   무효화 전에 읽은 세대로 늦게 저장된 값(다른 노드의 변경 커밋과 경합한 조회 결과)은 다시 읽히지 않는다
+ */
+public interface SharedCatalogCache {
+
+    /**
+     * 키의 현재 세대 (조회 전에 읽어 두고 get/put 에 그대로 넘긴다)
+     */
+    long generation(String key);
+
+    Optional<List<CampingItemResponse>> get(String key, long generation);
+
+    void put(String key, long generation, List<CampingItemResponse> items);
+
+    /**
+     * 키의 세대를 올려 이전 세대 값을 모두 무효화
+     */
+    void evict(Collection<String> keys);
+
+    /**
+     * 모든 노드에 무효화 키 전파
+     */
+    void publishInvalidation(Collection<String> keys);
+
+    /**
+     * 다른 노드에서 전파된 무효화 수신
+     */
+    void subscribe(Consumer<Collection<String>> listener);
+}
@@ -0,0 +1,167 @@
+package com.rental.camprent.service.customerstats;
+
+import com.rental.camprent.domain.campingrental.ArchivedRentalRepository;
+import com.rental.camprent.domain.campingrental.CustomerRentalAggregate;
+import com.rental.camprent.domain.campingrental.CustomerRentalCount;
+import com.rental.camprent.domain.campingrental.RentalRepository;
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import com.rental.camprent.domain.campingrental.RentalTransitionEvent;
+import com.rental.camprent.domain.campingrental.RentalsMarkedOverdueEvent;
+import com.rental.camprent.domain.customer.CustomerRentalStats;
+import com.rental.camprent.domain.customer.CustomerRentalStatsRepository;
+import com.rental.camprent.domain.customer.CustomerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 고객별 대여 통계 유지
+ * - 대여 생성/상태 변경이 커밋되기 직전에 같은 트랜잭션에서 증분 반영한다 (대여와 통계가 함께 커밋/롤백)
+ * - 조회는 고객당 한 행만 읽는다
+ * - 규칙이 바뀌었거나 어긋났을 때는 rebuild() 로 대여 테이블(보관 대여 포함)에서 다시 집계한다
+ * - 첫 대여로 통계 행을 만들 때는 빈 행을 별도 트랜잭션으로 먼저 넣어, 동시에 들어온 첫 대여끼리 키가 충돌해도 대여는 실패하지 않는다
+ */
+@Slf4j
+@Service
+@Transactional
+public class CustomerStatsService {
+
+    private final CustomerRentalStatsRepository statsRepository;
+    private final CustomerRepository customerRepository;
+    private final RentalRepository rentalRepository;
+    private final ArchivedRentalRepository archivedRentalRepository;
+    private final TransactionTemplate newTransaction;
+
+    public CustomerStatsService(CustomerRentalStatsRepository statsRepository,
+                                CustomerRepository customerRepository,
+                                RentalRepository rentalRepository,
+                                ArchivedRentalRepository archivedRentalRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.statsRepository = statsRepository;
+        this.customerRepository = customerRepository;
+        this.rentalRepository = rentalRepository;
+        this.archivedRentalRepository = archivedRentalRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional(readOnly = true)
+    public CustomerRentalStats getStats(Long customerId) {
+        return statsRepository.findById(customerId).orElseGet(() -> {
+            if (!customerRepository.existsById(customerId)) {
+                throw new IllegalArgumentException("존재하지 않는 고객입니다. id=" + customerId);
+            }
+            return CustomerRentalStats.empty(customerId);
+        });
+    }
+
+    /**
+     * 대여 생성/상태 변경/연장 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTransition(RentalTransitionEvent event) {
+        RentalStatsContribution after = RentalStatsContribution.of(
+                event.toStatus(), event.totalCost(), event.endDate(), event.actualReturnDate());
+        RentalStatsContribution before = event.isCreated()
+                ? RentalStatsContribution.NONE
+                : RentalStatsContribution.of(event.fromStatus(), event.previousTotalCost(), event.previousEndDate(),
+                        event.fromStatus().isTerminal() ? event.actualReturnDate() : null);
+
+        RentalStatsContribution delta = after.minus(before);
+        LocalDate lastRentalDate = event.isCreated() ? event.startDate() : null;
+        if (!delta.isZero() || lastRentalDate != null) {
+            apply(event.customerId(), delta, lastRentalDate);
+        }
+    }
+
+    /**
+     * 연체 일괄 처리 청크 반영 (IN_PROGRESS -> OVERDUE 는 연체 건수만 늘어난다)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMarkedOverdue(RentalsMarkedOverdueEvent event) {
+        List<CustomerRentalCount> counts = rentalRepository.countByCustomer(event.rentalIds(), RentalStatus.OVERDUE);
+        for (CustomerRentalCount count : counts) {
+            apply(count.customerId(), new RentalStatsContribution(0, BigDecimal.ZERO, 0, count.count()), null);
+        }
+    }
+
+    /**
+     * 대여 테이블과 보관 테이블 전체를 다시 집계해 통계를 재구축
+     * - 재구축 중 커밋되는 대여 변경은 반영되지 않을 수 있으므로 변경이 적은 시간에 실행한다
+     *
+     * @return 재구축한 고객 수
+     */
+    public int rebuild() {
+        statsRepository.deleteAllInBulk();
+        Set<RentalStatus> returned = EnumSet.of(RentalStatus.COMPLETED, RentalStatus.RETURED_DAMAGED);
+        Map<Long, CustomerRentalAggregate> merged = new LinkedHashMap<>();
+        for (CustomerRentalAggregate aggregate : rentalRepository.aggregateByCustomer(
+                RentalStatus.CANCELLED, RentalStatus.terminalStatuses(), RentalStatus.OVERDUE, returned)) {
+            merged.put(aggregate.customerId(), aggregate);
+        }
+        for (CustomerRentalAggregate aggregate : archivedRentalRepository.aggregateByCustomer(
+                RentalStatus.CANCELLED, returned)) {
+            merged.merge(aggregate.customerId(), aggregate, CustomerRentalAggregate::plus);
+        }
+        Collection<CustomerRentalAggregate> aggregates = merged.values();
+
+        statsRepository.saveAll(aggregates.stream()
+                .map(aggregate -> CustomerRentalStats.builder()
+                        .customerId(aggregate.customerId())
+                        .rentalCount(aggregate.rentalCount())
+                        .totalSpend(aggregate.totalSpend())
+                        .activeRentals(aggregate.activeRentals())
+                        .overdueCount(aggregate.overdueCount())
+                        .lastRentalDate(aggregate.lastRentalDate())
+                        .build())
+                .toList());
+        log.info("고객 대여 통계 재구축 완료 - {}명", aggregates.size());
+        return aggregates.size();
+    }
+
+    /**
+     * 증분 반영 - 첫 대여라 행이 없으면 빈 행을 만든 뒤 다시 반영
+     */
+    private void apply(Long customerId, RentalStatsContribution delta, LocalDate lastRentalDate) {
+        if (applyDelta(customerId, delta, lastRentalDate) > 0) {
+            return;
+        }
+        createEmptyRow(customerId);
+        if (applyDelta(customerId, delta, lastRentalDate) == 0) {
+            throw new IllegalStateException("고객 대여 통계를 반영하지 못했습니다. customerId=" + customerId);
+        }
+    }
+
+    private int applyDelta(Long customerId, RentalStatsContribution delta, LocalDate lastRentalDate) {
+        return statsRepository.applyDelta(customerId, delta.rentalCount(), delta.totalSpend(),
+                delta.activeRentals(), delta.overdueCount(), lastRentalDate, LocalDateTime.now());
+    }
+
+    /**
+     * 빈 통계 행을 별도 트랜잭션으로 커밋 - 다른 트랜잭션이 먼저 만들었으면(키 중복) 그대로 둔다
+     * - 빈 행은 통계 값에 영향이 없으므로 바깥 트랜잭션이 롤백되어도 남아 있어도 된다
+     */
+    private void createEmptyRow(Long customerId) {
+        try {
+            newTransaction.executeWithoutResult(status -> statsRepository.saveAndFlush(CustomerRentalStats.empty(customerId)));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("고객 대여 통계 행이 이미 생성됨 - customerId={}", customerId);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.rental.camprent.service.customerstats;
+
+import com.rental.camprent.domain.campingrental.RentalStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 대여 한 건이 고객 통계에 기여하는 값
+ * - 증분 반영은 (변경 후 기여 - 변경 전 기여) 로 계산하므로, 재구축 집계 쿼리와 같은 규칙을 써야 한다
+ */
+record RentalStatsContribution(long rentalCount, BigDecimal totalSpend, long activeRentals, long overdueCount) {
+
+    static final RentalStatsContribution NONE = new RentalStatsContribution(0, BigDecimal.ZERO, 0, 0);
+
+    static RentalStatsContribution of(RentalStatus status, BigDecimal totalCost,
+                                      LocalDate endDate, LocalDate actualReturnDate) {
+        return new RentalStatsContribution(
+                1,
+                status == RentalStatus.CANCELLED ? BigDecimal.ZERO : totalCost,
+                status.isTerminal() ? 0 : 1,
+                isOverdue(status, endDate, actualReturnDate) ? 1 : 0);
+    }
+
+    RentalStatsContribution minus(RentalStatsContribution other) {
+        return new RentalStatsContribution(
+                rentalCount - other.rentalCount,
+                totalSpend.subtract(other.totalSpend),
+                activeRentals - other.activeRentals,
+                overdueCount - other.overdueCount);
+    }
+
+    boolean isZero() {
+        return rentalCount == 0 && totalSpend.signum() == 0 && activeRentals == 0 && overdueCount == 0;
+    }
+
+    /**
+     * 연체중이거나, 반납(정상/파손)이 종료일 이후에 이루어진 경우
+     */
+    private static boolean isOverdue(RentalStatus status, LocalDate endDate, LocalDate actualReturnDate) {
+        if (status == RentalStatus.OVERDUE) {
+            return true;
+        }
+        return (status == RentalStatus.COMPLETED || status == RentalStatus.RETURED_DAMAGED)
+                && actualReturnDate != null && actualReturnDate.isAfter(endDate);
+    }
+}
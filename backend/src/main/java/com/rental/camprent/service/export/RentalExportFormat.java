@@ -0,0 +1,20 @@
+package com.rental.camprent.service.export;
+
+import lombok.Getter;
+
+/**
+ * 대여 이력 내보내기 형식
+ */
+@Getter
+public enum RentalExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    RentalExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+}
@@ -0,0 +1,256 @@
+package com.rental.camprent.service.inventory;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import com.rental.camprent.domain.campingitem.CampingItem;
+import com.rental.camprent.domain.campingitem.CampingItemChangedEvent;
+import com.rental.camprent.domain.campingitem.CampingItemRepository;
+import com.rental.camprent.domain.campingitem.CampingItemsImportedEvent;
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import com.rental.camprent.domain.campingrental.RentalTransitionEvent;
+import com.rental.camprent.dto.response.InventoryDeltaResponse;
+import com.rental.camprent.service.availability.AvailabilityService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재고 변경 푸시 (SSE, 카테고리별 구독)
+ * - 장비 상태/재고 변경, 재고 점유가 바뀌는 대여 전이가 커밋되면 장비 ID 만 모아 두고,
+ *   주기마다 바뀐 장비를 한 번에 조회해 카테고리별 이벤트를 한 번씩 만든 뒤 구독자에게 그대로 보낸다
+ * - 짧은 시간에 같은 장비가 여러 번 바뀌어도 주기당 한 건으로 합쳐지고, 구독자 수와 관계없이 DB 조회는 주기당 한 번이다
+ * - 발송은 구독자별 버퍼를 거쳐 발송 스레드 풀에서 한다. 모으는 스레드는 버퍼에 넣기만 하므로 느린 구독자가 다른 구독자를 막지 않고,
+ *   버퍼가 넘친 구독자는 연결을 끊는다
+ * - 끊긴 연결은 발송 실패나 하트비트로 정리한다
+ */
+@Slf4j
+@Service
+public class InventoryStreamService {
+
+    private static final String METRIC_PREFIX = "camprent.inventory-stream";
+    private static final String EVENT_NAME = "inventory";
+
+    private final CampingItemRepository campingItemRepository;
+    private final AvailabilityService availabilityService;
+    private final ObjectMapper objectMapper;
+    private final long coalesceIntervalMs;
+    private final long heartbeatIntervalMs;
+    private final long emitterTimeoutMs;
+    private final int maxSubscribers;
+    private final int subscriberBufferSize;
+    private final int senderThreads;
+
+    private final Set<InventorySubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Set<Long> changedItemIds = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Counter publishedCounter;
+    private final Counter disconnectedCounter;
+    private final Counter overflowCounter;
+
+    private ScheduledExecutorService publisher;
+    private ExecutorService sender;
+
+    public InventoryStreamService(CampingItemRepository campingItemRepository,
+                                  AvailabilityService availabilityService,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${camprent.inventory-stream.coalesce-interval-ms:500}") long coalesceIntervalMs,
+                                  @Value("${camprent.inventory-stream.heartbeat-interval-ms:15000}") long heartbeatIntervalMs,
+                                  @Value("${camprent.inventory-stream.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+                                  @Value("${camprent.inventory-stream.max-subscribers:10000}") int maxSubscribers,
+                                  @Value("${camprent.inventory-stream.subscriber-buffer-size:32}") int subscriberBufferSize,
+                                  @Value("${camprent.inventory-stream.sender-threads:16}") int senderThreads) {
+        this.campingItemRepository = campingItemRepository;
+        this.availabilityService = availabilityService;
+        this.objectMapper = objectMapper;
+        this.coalesceIntervalMs = coalesceIntervalMs;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.maxSubscribers = maxSubscribers;
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.senderThreads = senderThreads;
+        this.publishedCounter = meterRegistry.counter(METRIC_PREFIX + ".published");
+        this.disconnectedCounter = meterRegistry.counter(METRIC_PREFIX + ".disconnected");
+        this.overflowCounter = meterRegistry.counter(METRIC_PREFIX + ".overflow");
+        meterRegistry.gaugeCollectionSize(METRIC_PREFIX + ".subscribers", List.of(), subscribers);
+    }
+
+    /**
+     * 모으기/하트비트 전용 스레드와 발송 스레드 풀 - 배치 작업이 공용 스케줄러를 오래 잡고 있어도 발송이 밀리지 않게 분리
+     */
+    @PostConstruct
+    void start() {
+        publisher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "inventory-stream-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger senderIndex = new AtomicInteger();
+        sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "inventory-stream-sender-" + senderIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        publisher.scheduleWithFixedDelay(this::publishSafely, coalesceIntervalMs, coalesceIntervalMs, TimeUnit.MILLISECONDS);
+        publisher.scheduleWithFixedDelay(this::heartbeat, heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        publisher.shutdownNow();
+        sender.shutdownNow();
+        List.copyOf(subscribers).forEach(subscriber -> subscriber.close(null));
+    }
+
+    /**
+     * 구독 (카테고리를 지정하지 않으면 전체)
+     */
+    public SseEmitter subscribe(Collection<CampingCategory> categories) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("재고 변경 구독자가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        Set<CampingCategory> subscribed = categories == null || categories.isEmpty()
+                ? EnumSet.allOf(CampingCategory.class)
+                : EnumSet.copyOf(categories);
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        InventorySubscriber subscriber = new InventorySubscriber(emitter, subscribed, subscriberBufferSize, sender,
+                this::onClosed);
+        emitter.onCompletion(subscriber::closed);
+        emitter.onTimeout(subscriber::closed);
+        emitter.onError(e -> subscriber.closed());
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    /**
+     * 장비 상태/재고/정보 변경 커밋 후
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(CampingItemChangedEvent event) {
+        changedItemIds.add(event.itemId());
+    }
+
+    /**
+     * 일괄 등록 청크 커밋 후
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemsImported(CampingItemsImportedEvent event) {
+        changedItemIds.addAll(event.itemIds());
+    }
+
+    /**
+     * 대여 전이 커밋 후 - 재고 점유가 생기거나 풀리거나 기간이 늘어난 경우만
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransition(RentalTransitionEvent event) {
+        if (isReserving(event.fromStatus()) != isReserving(event.toStatus()) || event.isExtended()) {
+            changedItemIds.add(event.itemId());
+        }
+    }
+
+    private static boolean isReserving(RentalStatus status) {
+        return status != null && status.isReserving();
+    }
+
+    private void publishSafely() {
+        try {
+            publish();
+        } catch (RuntimeException e) {
+            log.error("재고 변경 발송 오류", e);
+        }
+    }
+
+    /**
+     * 모인 변경을 카테고리별 이벤트로 만들어 구독자에게 발송
+     */
+    void publish() {
+        if (changedItemIds.isEmpty()) {
+            return;
+        }
+        List<Long> itemIds = new ArrayList<>(changedItemIds);
+        itemIds.forEach(changedItemIds::remove);
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        Map<CampingCategory, List<InventoryDeltaResponse.Item>> byCategory = new EnumMap<>(CampingCategory.class);
+        for (CampingItem item : campingItemRepository.findAllById(itemIds)) {
+            byCategory.computeIfAbsent(item.getCategory(), category -> new ArrayList<>())
+                    .add(new InventoryDeltaResponse.Item(item.getId(), item.getStatus(), item.getStockQuantity(),
+                            availabilityService.availableQuantity(item.getId(), today, today)));
+        }
+
+        long seq = sequence.incrementAndGet();
+        LocalDateTime publishedAt = LocalDateTime.now();
+        Map<CampingCategory, Set<ResponseBodyEmitter.DataWithMediaType>> events = new EnumMap<>(CampingCategory.class);
+        byCategory.forEach((category, items) -> events.put(category, SseEmitter.event()
+                .id(Long.toString(seq))
+                .name(EVENT_NAME)
+                .data(objectMapper.writeValueAsString(new InventoryDeltaResponse(seq, category, publishedAt, items)),
+                        MediaType.APPLICATION_JSON)
+                .build()));
+
+        for (InventorySubscriber subscriber : subscribers) {
+            for (Map.Entry<CampingCategory, Set<ResponseBodyEmitter.DataWithMediaType>> event : events.entrySet()) {
+                if (subscriber.isSubscribed(event.getKey()) && !offer(subscriber, event.getValue())) {
+                    break;
+                }
+            }
+        }
+        publishedCounter.increment(events.size());
+    }
+
+    /**
+     * 변경이 없어도 주기적으로 주석 한 줄을 보내 끊긴 연결을 정리 (보낼 이벤트가 쌓여 있는 구독자는 건너뜀)
+     */
+    private void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        for (InventorySubscriber subscriber : subscribers) {
+            if (subscriber.isIdle()) {
+                offer(subscriber, ping);
+            }
+        }
+    }
+
+    private void onClosed(InventorySubscriber subscriber, Throwable cause) {
+        subscribers.remove(subscriber);
+        if (cause != null) {
+            disconnectedCounter.increment();
+            log.debug("재고 변경 구독자 연결 종료: {}", cause.getMessage());
+        }
+    }
+
+    private boolean offer(InventorySubscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        if (subscriber.offer(event)) {
+            return true;
+        }
+        overflowCounter.increment();
+        return false;
+    }
+}
@@ -0,0 +1,125 @@
+package com.rental.camprent.service.inventory;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+/**
+ * 재고 변경 구독자 1명
+ * - 발송할 이벤트는 구독자별 제한 크기 버퍼에 넣고, 발송 스레드 풀에서 구독자마다 하나의 작업이 순서대로 보낸다
+ * - 느린 구독자는 자기 버퍼만 쌓이고, 버퍼가 넘치면 연결을 끊는다 (다시 연결해 목록부터 조회하게)
+ */
+final class InventorySubscriber {
+
+    private final SseEmitter emitter;
+    private final Set<CampingCategory> categories;
+    private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer;
+    private final Executor sender;
+    private final BiConsumer<InventorySubscriber, Throwable> onClosed;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    InventorySubscriber(SseEmitter emitter, Set<CampingCategory> categories, int bufferCapacity,
+                        Executor sender, BiConsumer<InventorySubscriber, Throwable> onClosed) {
+        this.emitter = emitter;
+        this.categories = categories;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.sender = sender;
+        this.onClosed = onClosed;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean isSubscribed(CampingCategory category) {
+        return categories.contains(category);
+    }
+
+    boolean isIdle() {
+        return buffer.isEmpty() && !draining.get();
+    }
+
+    /**
+     * 발송 대기열에 추가 (막히지 않음)
+     *
+     * @return 버퍼가 넘쳐 연결을 끊었으면 false
+     */
+    boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        if (closed.get()) {
+            return true;
+        }
+        if (!buffer.offer(event)) {
+            close(new IllegalStateException("재고 변경 구독자의 발송 버퍼가 가득 찼습니다."));
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * 연결 종료 (한 번만 처리)
+     *
+     * @param cause 오류로 끊는 경우 원인, 정상 종료면 null
+     */
+    void close(Throwable cause) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        buffer.clear();
+        onClosed.accept(this, cause);
+        if (cause == null) {
+            emitter.complete();
+        } else {
+            emitter.completeWithError(cause);
+        }
+    }
+
+    /**
+     * 컨테이너 쪽에서 이미 끝난 연결 (완료/타임아웃/오류 콜백)
+     */
+    void closed() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.clear();
+            onClosed.accept(this, null);
+        }
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            close(e);
+        }
+    }
+
+    private void drain() {
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> event;
+            while (!closed.get() && (event = buffer.poll()) != null) {
+                emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            close(e);
+        } finally {
+            draining.set(false);
+        }
+        // 끝내는 사이에 들어온 이벤트가 있으면 다시 예약
+        if (!closed.get() && !buffer.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
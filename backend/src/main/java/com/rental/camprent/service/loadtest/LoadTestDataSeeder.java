@@ -0,0 +1,152 @@
+package com.rental.camprent.service.loadtest;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import com.rental.camprent.domain.campingitem.CampingItem;
+import com.rental.camprent.domain.campingitem.CampingItemRepository;
+import com.rental.camprent.domain.campingitem.CampingItemStatus;
+import com.rental.camprent.domain.campingitem.CampingItemsImportedEvent;
+import com.rental.camprent.domain.customer.Customer;
+import com.rental.camprent.domain.customer.CustomerRepository;
+import com.rental.camprent.domain.customer.CustomerType;
+import com.rental.camprent.dto.response.LoadTestSeedResponse;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트 데이터 생성 (loadtest 프로필 전용)
+ * - 전체 카테고리에 고르게 장비를 만들고, 카테고리마다 보유 수량/일일 요금 범위를 달리한다
+ * - 같은 시드면 같은 데이터가 만들어진다
+ * - 청크마다 커밋하고, 장비 청크는 일괄 등록 이벤트로 알려 카탈로그 캐시/검색 색인에 반영한다
+ */
+@Slf4j
+@Service
+@Profile("loadtest")
+public class LoadTestDataSeeder {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String[] BRANDS = {"코베아", "스노우피크", "콜맨", "헬리녹스", "니모", "MSR", "캠핑문", "버팔로"};
+
+    private final CampingItemRepository campingItemRepository;
+    private final CustomerRepository customerRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public LoadTestDataSeeder(CampingItemRepository campingItemRepository,
+                              CustomerRepository customerRepository,
+                              EntityManager entityManager,
+                              ApplicationEventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager) {
+        this.campingItemRepository = campingItemRepository;
+        this.customerRepository = customerRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public LoadTestSeedResponse seed(int itemCount, int customerCount, long seed) {
+        if (itemCount < 0 || customerCount < 0) {
+            throw new IllegalArgumentException("생성 건수는 0 이상이어야 합니다.");
+        }
+        long startedAt = System.nanoTime();
+        Random random = new Random(seed);
+        List<Long> itemIds = seedItems(itemCount, random);
+        List<Long> customerIds = seedCustomers(customerCount, random);
+        log.info("부하 테스트 데이터 생성 완료 - 장비 {}건, 고객 {}건, {}ms",
+                itemIds.size(), customerIds.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        return new LoadTestSeedResponse(itemIds, customerIds);
+    }
+
+    private List<Long> seedItems(int count, Random random) {
+        CampingCategory[] categories = CampingCategory.values();
+        List<Long> ids = new ArrayList<>(count);
+        for (int from = 0; from < count; from += CHUNK_SIZE) {
+            List<CampingItem> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (int i = from; i < Math.min(count, from + CHUNK_SIZE); i++) {
+                CampingCategory category = categories[i % categories.length];
+                String brand = BRANDS[random.nextInt(BRANDS.length)];
+                chunk.add(CampingItem.builder()
+                        .name(brand + " " + category.getDescription() + " " + (i + 1))
+                        .category(category)
+                        .model(brand.toUpperCase() + "-" + category.name().charAt(0) + (100 + random.nextInt(900)))
+                        .description(category.getDescription() + " 부하 테스트용 장비")
+                        .stockQuantity(stockOf(category, random))
+                        .baseDailyRate(dailyRateOf(category, random))
+                        .status(random.nextInt(50) == 0 ? CampingItemStatus.UNDER_REPAIR : CampingItemStatus.AVAILABLE)
+                        .build());
+            }
+            List<CampingItem> saved = transactionTemplate.execute(status -> {
+                List<CampingItem> items = campingItemRepository.saveAll(chunk);
+                eventPublisher.publishEvent(new CampingItemsImportedEvent(
+                        items.stream().map(CampingItem::getId).toList(),
+                        EnumSet.allOf(CampingCategory.class),
+                        EnumSet.of(CampingItemStatus.AVAILABLE, CampingItemStatus.UNDER_REPAIR)));
+                campingItemRepository.flush();
+                entityManager.clear();
+                return items;
+            });
+            saved.forEach(item -> ids.add(item.getId()));
+        }
+        return ids;
+    }
+
+    private List<Long> seedCustomers(int count, Random random) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int from = 0; from < count; from += CHUNK_SIZE) {
+            List<Customer> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (int i = from; i < Math.min(count, from + CHUNK_SIZE); i++) {
+                boolean business = random.nextInt(10) == 0;
+                chunk.add(Customer.builder()
+                        .name(business ? "캠핑클럽 " + (i + 1) : "고객" + (i + 1))
+                        .phone(String.format("010-%04d-%04d", random.nextInt(10_000), i % 10_000))
+                        .email("customer" + (i + 1) + "@loadtest.local")
+                        .type(business ? CustomerType.BUSINESS : CustomerType.INDIVIDUAL)
+                        .businessNumber(business ? String.format("%03d-%02d-%05d", random.nextInt(1000), random.nextInt(100), i % 100_000) : null)
+                        .build());
+            }
+            List<Customer> saved = transactionTemplate.execute(status -> {
+                List<Customer> customers = customerRepository.saveAll(chunk);
+                customerRepository.flush();
+                entityManager.clear();
+                return customers;
+            });
+            saved.forEach(customer -> ids.add(customer.getId()));
+        }
+        return ids;
+    }
+
+    /**
+     * 카테고리별 보유 수량 (텐트/가구처럼 부피가 큰 장비는 적게)
+     */
+    private static int stockOf(CampingCategory category, Random random) {
+        return switch (category) {
+            case TENT, CAMPING_FURNITURE -> 1 + random.nextInt(5);
+            case SLEEPING_BAG, COOLER -> 3 + random.nextInt(10);
+            default -> 5 + random.nextInt(20);
+        };
+    }
+
+    /**
+     * 카테고리별 일일 요금 (천 원 단위)
+     */
+    private static BigDecimal dailyRateOf(CampingCategory category, Random random) {
+        int thousands = switch (category) {
+            case TENT -> 30 + random.nextInt(50);
+            case CAMPING_FURNITURE, COOLER -> 10 + random.nextInt(20);
+            case SLEEPING_BAG, CAMP_STOVE -> 8 + random.nextInt(12);
+            default -> 3 + random.nextInt(10);
+        };
+        return BigDecimal.valueOf(thousands * 1000L);
+    }
+}
@@ -0,0 +1,63 @@
+package com.rental.camprent.service.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Hibernate 통계 메트릭 (hibernate.generate_statistics=true 필요)
+ * - 쿼리 실행 수, 느린 쿼리 수/최대 실행 시간, 2차 캐시/쿼리 캐시 적중률
+ * - 느린 쿼리 기준은 hibernate.log_slow_query (ms) 설정을 따른다
+ */
+@Component
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "camprent.hibernate";
+
+    private final Statistics statistics;
+
+    public HibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + ".queries", statistics, Statistics::getQueryExecutionCount)
+                .description("실행된 HQL/JPQL 쿼리 수")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".statements", statistics, Statistics::getPrepareStatementCount)
+                .description("준비된 JDBC 문장 수")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".queries.slow", statistics, s -> s.getSlowQueries().size())
+                .description("느린 쿼리 종류 수")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".queries.max-time", statistics, Statistics::getQueryExecutionMaxTime)
+                .description("가장 오래 걸린 쿼리 실행 시간(ms)")
+                .baseUnit("milliseconds")
+                .register(registry);
+        registerHitRatio(registry, "second-level-cache", s -> ratio(
+                s.getSecondLevelCacheHitCount(), s.getSecondLevelCacheMissCount()));
+        registerHitRatio(registry, "query-cache", s -> ratio(
+                s.getQueryCacheHitCount(), s.getQueryCacheMissCount()));
+        registerHitRatio(registry, "query-plan-cache", s -> ratio(
+                s.getQueryPlanCacheHitCount(), s.getQueryPlanCacheMissCount()));
+    }
+
+    private void registerHitRatio(MeterRegistry registry, String cache, ToDoubleFunction<Statistics> ratio) {
+        Gauge.builder(METRIC_PREFIX + ".cache.hit-ratio", statistics, ratio)
+                .tag("cache", cache)
+                .register(registry);
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? Double.NaN : (double) hits / total;
+    }
+}
@@ -0,0 +1,47 @@
+package com.rental.camprent.service.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 핫패스 작업 시간 측정 (작업별 타이머, 결과 태그 포함, 백분위 히스토그램 발행)
+ * - outcome: success | rejected(도메인 규칙 위반, IllegalArgument/IllegalState) | error
+ */
+@Component
+public class OperationTimer {
+
+    private final MeterRegistry meterRegistry;
+
+    public OperationTimer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String name, String operation, Runnable body) {
+        record(name, operation, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    public <T> T record(String name, String operation, Supplier<T> body) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = body.get();
+            outcome = "success";
+            return result;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            outcome = "rejected";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
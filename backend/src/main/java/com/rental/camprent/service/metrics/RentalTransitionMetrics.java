@@ -0,0 +1,40 @@
+package com.rental.camprent.service.metrics;
+
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import com.rental.camprent.domain.campingrental.RentalTransitionEvent;
+import com.rental.camprent.domain.campingrental.RentalsMarkedOverdueEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 대여 상태 전이 건수 (from/to 태그)
+ */
+@Component
+public class RentalTransitionMetrics {
+
+    private static final String METRIC_NAME = "camprent.rental.transitions";
+    private static final String NONE = "NONE";
+
+    private final MeterRegistry meterRegistry;
+
+    public RentalTransitionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransition(RentalTransitionEvent event) {
+        String from = event.fromStatus() == null ? NONE : event.fromStatus().name();
+        meterRegistry.counter(METRIC_NAME, "from", from, "to", event.toStatus().name()).increment();
+        if (event.isExtended()) {
+            meterRegistry.counter(METRIC_NAME + ".extended-days").increment(
+                    event.endDate().toEpochDay() - event.previousEndDate().toEpochDay());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMarkedOverdue(RentalsMarkedOverdueEvent event) {
+        meterRegistry.counter(METRIC_NAME, "from", RentalStatus.IN_PROGRESS.name(), "to", RentalStatus.OVERDUE.name())
+                .increment(event.rentalIds().size());
+    }
+}
@@ -0,0 +1,78 @@
+package com.rental.camprent.service.metrics;
+
+import com.rental.camprent.domain.campingitem.CampingItemRepository;
+import com.rental.camprent.domain.campingitem.CampingItemStatus;
+import com.rental.camprent.domain.campingitem.ItemStatusCount;
+import com.rental.camprent.domain.campingrental.RentalRepository;
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import com.rental.camprent.domain.campingrental.RentalStatusCount;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상태별 장비 수 / 대여 건수 게이지
+ * - 스크랩마다 집계 쿼리를 날리지 않도록 주기적으로 group by 한 번씩 실행해 값을 갱신한다
+ */
+@Slf4j
+@Component
+public class StatusGauges {
+
+    private final CampingItemRepository campingItemRepository;
+    private final RentalRepository rentalRepository;
+    private final Map<CampingItemStatus, AtomicLong> itemCounts = new EnumMap<>(CampingItemStatus.class);
+    private final Map<RentalStatus, AtomicLong> rentalCounts = new EnumMap<>(RentalStatus.class);
+
+    public StatusGauges(CampingItemRepository campingItemRepository,
+                        RentalRepository rentalRepository,
+                        MeterRegistry meterRegistry) {
+        this.campingItemRepository = campingItemRepository;
+        this.rentalRepository = rentalRepository;
+        for (CampingItemStatus status : CampingItemStatus.values()) {
+            AtomicLong count = new AtomicLong();
+            itemCounts.put(status, count);
+            Gauge.builder("camprent.items", count, AtomicLong::get)
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+        for (RentalStatus status : RentalStatus.values()) {
+            AtomicLong count = new AtomicLong();
+            rentalCounts.put(status, count);
+            Gauge.builder("camprent.rentals", count, AtomicLong::get)
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${camprent.metrics.status-gauge-refresh-ms:30000}",
+            initialDelayString = "${camprent.metrics.status-gauge-refresh-ms:30000}")
+    public void refresh() {
+        try {
+            Map<CampingItemStatus, Long> items = new EnumMap<>(CampingItemStatus.class);
+            for (ItemStatusCount row : campingItemRepository.countGroupByStatus()) {
+                items.put(row.status(), row.count());
+            }
+            Map<RentalStatus, Long> rentals = new EnumMap<>(RentalStatus.class);
+            for (RentalStatusCount row : rentalRepository.countGroupByStatus()) {
+                rentals.put(row.status(), row.count());
+            }
+            itemCounts.forEach((status, count) -> count.set(items.getOrDefault(status, 0L)));
+            rentalCounts.forEach((status, count) -> count.set(rentals.getOrDefault(status, 0L)));
+        } catch (RuntimeException e) {
+            log.warn("상태별 게이지 갱신 실패", e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.rental.camprent.service.overdue;
+
+import com.rental.camprent.domain.campingrental.IdRange;
+import com.rental.camprent.domain.campingrental.RentalRepository;
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import com.rental.camprent.domain.campingrental.RentalsMarkedOverdueEvent;
+import com.rental.camprent.service.availability.AvailabilityService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 연체 일괄 처리 (IN_PROGRESS -> OVERDUE, 종료일 < 오늘)
+ * - 엔티티를 로딩하지 않고 ID 범위를 나눠 병렬로, 범위 안에서는 청크 단위 UPDATE 로 처리한다
+ * - 처리 건수/소요 시간/처리량을 메트릭으로 남긴다
+ * - 청크마다 같은 트랜잭션 안에서 대상 행을 먼저 잠그고(SKIP LOCKED) 잠근 ID 만 변경해 그 목록으로
+ *   RentalsMarkedOverdueEvent 발행 (조회 이후 반납/개별 연체 처리된 건이나 처리 중인 건은 제외),
+ *   연체된 장비는 가용 재고 원장에서 오늘 날짜 점유로 표시
+ */
+@Slf4j
+@Component
+public class OverdueSweepJob {
+
+    private static final String METRIC_PREFIX = "camprent.rental.overdue.sweep";
+    private static final String ACTOR = "overdue-sweep";
+
+    private final RentalRepository rentalRepository;
+    private final AvailabilityService availabilityService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int partitions;
+    private final int chunkSize;
+
+    private final Timer sweepTimer;
+    private final Counter sweptCounter;
+    private final AtomicLong lastThroughput = new AtomicLong();    // 마지막 실행 처리량 (건/초)
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public OverdueSweepJob(RentalRepository rentalRepository,
+                           AvailabilityService availabilityService,
+                           PlatformTransactionManager transactionManager,
+                           ApplicationEventPublisher eventPublisher,
+                           MeterRegistry meterRegistry,
+                           @Value("${camprent.overdue-sweep.partitions:4}") int partitions,
+                           @Value("${camprent.overdue-sweep.chunk-size:1000}") int chunkSize) {
+        this.rentalRepository = rentalRepository;
+        this.availabilityService = availabilityService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.partitions = partitions;
+        this.chunkSize = chunkSize;
+        this.sweepTimer = meterRegistry.timer(METRIC_PREFIX + ".duration");
+        this.sweptCounter = meterRegistry.counter(METRIC_PREFIX + ".rentals");
+        meterRegistry.gauge(METRIC_PREFIX + ".throughput", lastThroughput);
+    }
+
+    @Scheduled(cron = "${camprent.overdue-sweep.cron:0 5 0 * * *}")
+    public void scheduledSweep() {
+        sweep(LocalDate.now());
+    }
+
+    /**
+     * 기준일 이전에 종료된 대여중 건을 연체로 변경
+     */
+    public OverdueSweepResult sweep(LocalDate today) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("연체 일괄 처리가 이미 실행 중입니다.");
+            return OverdueSweepResult.empty();
+        }
+        try {
+            long startedAt = System.nanoTime();
+            List<Long> rentalIds = sweepPartitions(today);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+            sweepTimer.record(elapsed);
+            sweptCounter.increment(rentalIds.size());
+            long millis = Math.max(1, elapsed.toMillis());
+            lastThroughput.set(rentalIds.size() * 1000L / millis);
+            log.info("연체 일괄 처리 완료 - {}건, {}ms", rentalIds.size(), elapsed.toMillis());
+            return new OverdueSweepResult(rentalIds, elapsed);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private List<Long> sweepPartitions(LocalDate today) {
+        IdRange range = rentalRepository.findIdRangeByStatusAndEndDateBefore(RentalStatus.IN_PROGRESS, today);
+        if (range.isEmpty()) {
+            return List.of();
+        }
+
+        long span = range.maxId() - range.minId() + 1;
+        long partitionSize = Math.max(1, (span + partitions - 1) / partitions);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(partitions)) {
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (long from = range.minId(); from <= range.maxId(); from += partitionSize) {
+                long afterId = from - 1;
+                long toId = Math.min(range.maxId(), from + partitionSize - 1);
+                futures.add(executor.submit(() -> sweepPartition(today, afterId, toId)));
+            }
+
+            List<Long> rentalIds = new ArrayList<>();
+            for (Future<List<Long>> future : futures) {
+                rentalIds.addAll(future.get());
+            }
+            return rentalIds;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("연체 일괄 처리가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("연체 일괄 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * ID 범위 하나를 청크 단위로 처리 (청크마다 별도 트랜잭션)
+     */
+    private List<Long> sweepPartition(LocalDate today, long afterId, long toId) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        List<Long> swept = new ArrayList<>();
+        long cursor = afterId;
+        while (true) {
+            List<Long> ids = rentalRepository.findIdsByStatusAndEndDateBefore(
+                    RentalStatus.IN_PROGRESS, today, cursor, toId, chunk);
+            if (ids.isEmpty()) {
+                return swept;
+            }
+            List<Long> updated = transactionTemplate.execute(status -> markOverdue(ids));
+            swept.addAll(updated);
+            cursor = ids.get(ids.size() - 1);
+        }
+    }
+
+    /**
+     * 청크 중 아직 대여중인 건을 잠근 뒤 그 ID 만 변경하고 이벤트로 알린다
+     * - 다른 트랜잭션이 처리 중인 행은 건너뛰므로(다음 실행 때 다시 대상이 된다) 변경 건과 알림 건이 항상 일치한다
+     */
+    private List<Long> markOverdue(List<Long> ids) {
+        List<Long> locked = rentalRepository.lockIdsByStatus(ids, RentalStatus.IN_PROGRESS);
+        if (locked.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        rentalRepository.updateStatus(locked, RentalStatus.IN_PROGRESS, RentalStatus.OVERDUE, now);
+        availabilityService.holdOverdue(rentalRepository.findItemIdsByIdIn(locked));
+        eventPublisher.publishEvent(new RentalsMarkedOverdueEvent(locked, ACTOR, now));
+        return locked;
+    }
+}
@@ -0,0 +1,16 @@
+package com.rental.camprent.service.overdue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 연체 일괄 처리 결과
+ *
+ * @param rentalIds 연체로 변경된 대여 ID
+ */
+public record OverdueSweepResult(List<Long> rentalIds, Duration elapsed) {
+
+    public static OverdueSweepResult empty() {
+        return new OverdueSweepResult(List.of(), Duration.ZERO);
+    }
+}
@@ -0,0 +1,201 @@
+package com.rental.camprent.service.search;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import com.rental.camprent.domain.campingitem.CampingItemStatus;
+import com.rental.camprent.dto.response.CampingItemResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 장비 검색용 역색인 (n-gram -> 장비 ID -> 필드 가중치)
+ * - 필드 가중치: 이름 3, 모델 2, 설명 1 (같은 토큰이 여러 필드에 있으면 합산)
+ * - 순위: 일치한 토큰 수 > 이름/모델 구문 일치 보너스 + 가중치 합 > ID 순
+ * - 조회가 대부분이므로 읽기/쓰기 락으로 조회끼리는 동시에 처리한다
+ */
+class CatalogSearchIndex {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int MODEL_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int MATCH_SCORE = 10;          // 일치한 토큰 1개당 점수
+    private static final int NAME_PHRASE_BONUS = 20;    // 이름에 검색어가 그대로 포함
+    private static final int NAME_PREFIX_BONUS = 10;    // 이름이 검색어로 시작
+    private static final int MODEL_PHRASE_BONUS = 10;   // 모델명에 검색어가 그대로 포함
+    private static final double MIN_MATCH_RATIO = 0.75; // 검색어 토큰 중 이 비율 이상 일치해야 결과에 포함
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 색인 추가/갱신 - 이미 더 최신 버전이 색인되어 있으면 무시
+     */
+    void put(CampingItemResponse item, Long version) {
+        lock.writeLock().lock();
+        try {
+            Document existing = documents.get(item.getId());
+            if (existing != null && existing.isNewerThan(version)) {
+                return;
+            }
+            if (existing != null) {
+                unlink(existing);
+            }
+            Document document = Document.of(item, version);
+            documents.put(item.getId(), document);
+            document.weights().forEach((gram, weight) ->
+                    postings.computeIfAbsent(gram, g -> new HashMap<>()).put(item.getId(), weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long itemId) {
+        lock.writeLock().lock();
+        try {
+            Document existing = documents.remove(itemId);
+            if (existing != null) {
+                unlink(existing);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 (카테고리/상태 조건은 null 이면 전체)
+     */
+    List<CampingItemResponse> search(String query, CampingCategory category, CampingItemStatus status, int limit) {
+        Set<String> grams = NGramTokenizer.tokenizeQuery(query);
+        if (grams.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String phrase = NGramTokenizer.normalize(query);
+        int minMatches = Math.max(1, (int) Math.ceil(grams.size() * MIN_MATCH_RATIO));
+
+        lock.readLock().lock();
+        try {
+            Map<Long, int[]> candidates = new HashMap<>();    // 장비 ID -> [일치 토큰 수, 가중치 합]
+            for (String gram : grams) {
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting == null) {
+                    continue;
+                }
+                posting.forEach((itemId, weight) -> {
+                    int[] score = candidates.computeIfAbsent(itemId, id -> new int[2]);
+                    score[0]++;
+                    score[1] += weight;
+                });
+            }
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(Hit.RANKING.reversed());
+            candidates.forEach((itemId, score) -> {
+                if (score[0] < minMatches) {
+                    return;
+                }
+                Document document = documents.get(itemId);
+                if (!document.matches(category, status)) {
+                    return;
+                }
+                top.add(new Hit(document, score[0] * MATCH_SCORE + score[1] + document.phraseBonus(phrase)));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            });
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(Hit.RANKING);
+            return hits.stream()
+                    .map(hit -> hit.document().item())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unlink(Document document) {
+        for (String gram : document.weights().keySet()) {
+            Map<Long, Integer> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(document.item().getId());
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private record Document(CampingItemResponse item, Long version, Map<String, Integer> weights,
+                            String normalizedName, String normalizedModel) {
+
+        static Document of(CampingItemResponse item, Long version) {
+            Map<String, Integer> weights = new HashMap<>();
+            addField(weights, item.getName(), NAME_WEIGHT);
+            addField(weights, item.getModel(), MODEL_WEIGHT);
+            addField(weights, item.getDescription(), DESCRIPTION_WEIGHT);
+            return new Document(item, version, weights,
+                    NGramTokenizer.normalize(item.getName()), NGramTokenizer.normalize(item.getModel()));
+        }
+
+        private static void addField(Map<String, Integer> weights, String text, int weight) {
+            for (String gram : NGramTokenizer.tokenize(text)) {
+                weights.merge(gram, weight, Integer::sum);
+            }
+        }
+
+        boolean isNewerThan(Long otherVersion) {
+            return version != null && otherVersion != null && version > otherVersion;
+        }
+
+        boolean matches(CampingCategory category, CampingItemStatus status) {
+            return (category == null || item.getCategory() == category)
+                    && (status == null || item.getStatus() == status);
+        }
+
+        int phraseBonus(String phrase) {
+            int bonus = 0;
+            if (normalizedName.startsWith(phrase)) {
+                bonus += NAME_PREFIX_BONUS;
+            }
+            if (normalizedName.contains(phrase)) {
+                bonus += NAME_PHRASE_BONUS;
+            }
+            if (normalizedModel.contains(phrase)) {
+                bonus += MODEL_PHRASE_BONUS;
+            }
+            return bonus;
+        }
+    }
+
+    private record Hit(Document document, int score) {
+
+        static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::score).reversed()
+                .thenComparing(hit -> hit.document().item().getId());
+    }
+}
@@ -0,0 +1,105 @@
+package com.rental.camprent.service.search;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import com.rental.camprent.domain.campingitem.CampingItem;
+import com.rental.camprent.domain.campingitem.CampingItemChangedEvent;
+import com.rental.camprent.domain.campingitem.CampingItemRepository;
+import com.rental.camprent.domain.campingitem.CampingItemStatus;
+import com.rental.camprent.domain.campingitem.CampingItemsImportedEvent;
+import com.rental.camprent.dto.response.CampingItemResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 장비 검색 (이름/모델/설명, 메모리 역색인)
+ * - 시작 시 전체 장비로 색인을 만들고, 이후에는 장비 변경 커밋 이벤트로 해당 장비만 다시 색인한다
+ * - 검색은 DB 를 거치지 않는다
+ */
+@Slf4j
+@Service
+public class CatalogSearchService {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final CampingItemRepository campingItemRepository;
+    private final CatalogSearchIndex index = new CatalogSearchIndex();
+    private final int buildChunkSize;
+
+    public CatalogSearchService(CampingItemRepository campingItemRepository,
+                                @Value("${camprent.catalog-search.build-chunk-size:1000}") int buildChunkSize) {
+        this.campingItemRepository = campingItemRepository;
+        this.buildChunkSize = buildChunkSize;
+    }
+
+    /**
+     * 검색 (카테고리/상태는 선택, 결과는 순위순)
+     */
+    public List<CampingItemResponse> search(String query, CampingCategory category, CampingItemStatus status, int limit) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("검색 결과 수는 1~" + MAX_LIMIT + " 사이여야 합니다.");
+        }
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return index.search(query, category, status, limit);
+    }
+
+    /**
+     * 전체 색인 생성 (ID 순으로 청크 단위 로딩)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        index.clear();
+        long afterId = 0L;
+        while (true) {
+            List<CampingItem> items = campingItemRepository.findByIdGreaterThanOrderByIdAsc(
+                    afterId, PageRequest.of(0, buildChunkSize));
+            if (items.isEmpty()) {
+                break;
+            }
+            items.forEach(this::put);
+            afterId = items.get(items.size() - 1).getId();
+        }
+        log.info("장비 검색 색인 생성 완료 - {}건, {}ms", index.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 장비 변경 커밋 후 재색인
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemChanged(CampingItemChangedEvent event) {
+        reindex(List.of(event.itemId()));
+    }
+
+    /**
+     * 일괄 등록 청크 커밋 후 재색인
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemsImported(CampingItemsImportedEvent event) {
+        reindex(event.itemIds());
+    }
+
+    private void reindex(Collection<Long> itemIds) {
+        Set<Long> missing = new HashSet<>(itemIds);
+        for (CampingItem item : campingItemRepository.findAllById(itemIds)) {
+            put(item);
+            missing.remove(item.getId());
+        }
+        missing.forEach(index::remove);
+    }
+
+    private void put(CampingItem item) {
+        index.put(CampingItemResponse.from(item), item.getVersion());
+    }
+}
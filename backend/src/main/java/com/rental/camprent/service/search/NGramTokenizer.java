@@ -0,0 +1,70 @@
+package com.rental.camprent.service.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 n-gram 토큰 분리
+ * - 한글은 형태소 분석 없이도 부분 일치가 되도록 단어마다 2-gram 으로 나눈다 (구스다운 -> 구스, 스다, 다운)
+ * - 한 글자 검색(타이핑 중)을 위해 단어 첫 글자는 "^" 를 붙인 1-gram 으로도 남긴다
+ * - 대소문자/전각 문자는 정규화하고, 문자/숫자 외에는 단어 구분자로 본다
+ */
+final class NGramTokenizer {
+
+    static final String PREFIX_MARK = "^";
+
+    private NGramTokenizer() {
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            builder.append(Character.isLetterOrDigit(c) ? c : ' ');
+        }
+        return builder.toString().trim();
+    }
+
+    /**
+     * 색인용 토큰 (단어 첫 글자 1-gram + 2-gram)
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : normalize(text).split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            grams.add(PREFIX_MARK + word.charAt(0));
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                grams.add(word.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어 토큰 - 한 글자 단어는 첫 글자 1-gram, 나머지는 2-gram
+     */
+    static Set<String> tokenizeQuery(String query) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : normalize(query).split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (word.length() == 1) {
+                grams.add(PREFIX_MARK + word);
+                continue;
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                grams.add(word.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+}
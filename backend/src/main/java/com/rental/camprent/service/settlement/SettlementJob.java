@@ -0,0 +1,263 @@
+package com.rental.camprent.service.settlement;
+
+import com.rental.camprent.domain.campingrental.IdRange;
+import com.rental.camprent.domain.campingrental.RentalRepository;
+import com.rental.camprent.domain.campingrental.RentalSettlementSource;
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import com.rental.camprent.domain.settlement.RentalSettlementRepository;
+import com.rental.camprent.domain.settlement.SettlementCalculator;
+import com.rental.camprent.domain.settlement.SettlementPartition;
+import com.rental.camprent.domain.settlement.SettlementPartitionRepository;
+import com.rental.camprent.domain.settlement.SettlementRun;
+import com.rental.camprent.domain.settlement.SettlementRunRepository;
+import com.rental.camprent.domain.settlement.SettlementRunStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 반납 대여 정산 (연체료, 파손 배상금, 보증금 환불/차감)
+ * - 기간 내 반납된 대여의 ID 범위를 파티션으로 나눠 병렬로, 파티션 안에서는 ID 순 청크 단위로 처리한다
+ * - 청크마다 정산 결과 JDBC 배치 insert 와 파티션 체크포인트 이동을 한 트랜잭션으로 커밋한다
+ * - 중간에 실패하거나 프로세스가 죽으면 같은 기간으로 다시 실행할 때(또는 다음 기동 시) 체크포인트부터 이어서 처리한다
+ * - 연체료는 정산 시점 장비 기본 요금 기준
+ */
+@Slf4j
+@Component
+public class SettlementJob {
+
+    private static final String METRIC_PREFIX = "camprent.settlement";
+    private static final Set<RentalStatus> SETTLED_STATUSES = RentalStatus.settledStatuses();
+    private static final Set<SettlementRunStatus> RESUMABLE = EnumSet.of(SettlementRunStatus.RUNNING, SettlementRunStatus.FAILED);
+    private static final String INSERT_SQL = "insert into rental_settlements "
+            + "(rental_id, run_id, customer_id, rental_status, late_days, late_fee, damage_charge, deposit, "
+            + "deposit_deduction, refund_amount, amount_due, settled_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final RentalRepository rentalRepository;
+    private final SettlementRunRepository runRepository;
+    private final SettlementPartitionRepository partitionRepository;
+    private final RentalSettlementRepository settlementRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SettlementCalculator calculator;
+    private final int partitions;
+    private final int chunkSize;
+
+    private final Timer runTimer;
+    private final Counter settledCounter;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public SettlementJob(RentalRepository rentalRepository,
+                         SettlementRunRepository runRepository,
+                         SettlementPartitionRepository partitionRepository,
+                         RentalSettlementRepository settlementRepository,
+                         JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry,
+                         @Value("${camprent.settlement.late-fee-multiplier:1.5}") BigDecimal lateFeeMultiplier,
+                         @Value("${camprent.settlement.damage-deduction-rate:1.0}") BigDecimal damageDeductionRate,
+                         @Value("${camprent.settlement.partitions:4}") int partitions,
+                         @Value("${camprent.settlement.chunk-size:500}") int chunkSize) {
+        this.rentalRepository = rentalRepository;
+        this.runRepository = runRepository;
+        this.partitionRepository = partitionRepository;
+        this.settlementRepository = settlementRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.calculator = new SettlementCalculator(lateFeeMultiplier, damageDeductionRate);
+        this.partitions = partitions;
+        this.chunkSize = chunkSize;
+        this.runTimer = meterRegistry.timer(METRIC_PREFIX + ".duration");
+        this.settledCounter = meterRegistry.counter(METRIC_PREFIX + ".rentals");
+    }
+
+    /**
+     * 매월 1일 지난달 반납분 정산
+     */
+    @Scheduled(cron = "${camprent.settlement.cron:0 0 2 1 * *}")
+    public void scheduledSettlement() {
+        YearMonth lastMonth = YearMonth.now().minusMonths(1);
+        settle(lastMonth.atDay(1), lastMonth.atEndOfMonth());
+    }
+
+    /**
+     * 프로세스가 죽어 진행 중으로 남은 정산 이어서 처리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        for (SettlementRun run : runRepository.findByStatus(SettlementRunStatus.RUNNING)) {
+            log.info("중단된 정산 이어서 처리 - runId={}, 기간 {} ~ {}", run.getId(), run.getPeriodStart(), run.getPeriodEnd());
+            try {
+                settle(run.getPeriodStart(), run.getPeriodEnd());
+            } catch (RuntimeException e) {
+                log.error("중단된 정산 재개 실패 - runId={}", run.getId(), e);
+            }
+        }
+    }
+
+    /**
+     * 기간(반납일 기준, 양 끝 포함) 정산 - 같은 기간의 미완료 실행이 있으면 이어서 처리
+     */
+    public SettlementRun settle(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("종료일은 시작일 이후여야 합니다.");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("정산이 이미 실행 중입니다.");
+        }
+        try {
+            long startedAt = System.nanoTime();
+            SettlementRun run = startOrResume(from, to);
+            try {
+                long settled = processPartitions(run);
+                settledCounter.increment(settled);
+            } catch (RuntimeException e) {
+                updateRun(run.getId(), SettlementRun::fail);
+                throw e;
+            }
+            long total = settlementRepository.countByRunId(run.getId());
+            SettlementRun completed = updateRun(run.getId(), r -> r.complete(total));
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+            runTimer.record(elapsed);
+            log.info("정산 완료 - runId={}, 기간 {} ~ {}, {}건, {}ms", run.getId(), from, to, total, elapsed.toMillis());
+            return completed;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public SettlementRun getRun(Long runId) {
+        return runRepository.findById(runId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 정산입니다. id=" + runId));
+    }
+
+    /**
+     * 미완료 실행이 있으면 다시 진행 상태로, 없으면 새 실행과 파티션(ID 범위)을 만든다
+     */
+    private SettlementRun startOrResume(LocalDate from, LocalDate to) {
+        return transactionTemplate.execute(status -> {
+            SettlementRun existing = runRepository
+                    .findFirstByPeriodStartAndPeriodEndAndStatusInOrderByIdDesc(from, to, RESUMABLE)
+                    .orElse(null);
+            if (existing != null) {
+                existing.resume();
+                return existing;
+            }
+
+            SettlementRun run = runRepository.save(new SettlementRun(from, to));
+            IdRange range = rentalRepository.findSettlementIdRange(SETTLED_STATUSES, from, to);
+            if (!range.isEmpty()) {
+                long span = range.maxId() - range.minId() + 1;
+                long partitionSize = Math.max(1, (span + partitions - 1) / partitions);
+                List<SettlementPartition> created = new ArrayList<>();
+                for (long start = range.minId(); start <= range.maxId(); start += partitionSize) {
+                    created.add(new SettlementPartition(run.getId(), start - 1, Math.min(range.maxId(), start + partitionSize - 1)));
+                }
+                partitionRepository.saveAll(created);
+            }
+            return run;
+        });
+    }
+
+    private long processPartitions(SettlementRun run) {
+        List<SettlementPartition> pending = partitionRepository.findByRunIdAndCompletedFalseOrderByIdAsc(run.getId());
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(partitions, pending.size()))) {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (SettlementPartition partition : pending) {
+                futures.add(executor.submit(() -> processPartition(run, partition)));
+            }
+            long settled = 0;
+            for (Future<Long> future : futures) {
+                settled += future.get();
+            }
+            return settled;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("정산이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("정산 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * 파티션 하나를 체크포인트부터 청크 단위로 처리 (청크마다 별도 트랜잭션)
+     */
+    private long processPartition(SettlementRun run, SettlementPartition partition) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        long cursor = partition.getLastId();
+        long settled = 0;
+        while (true) {
+            List<RentalSettlementSource> sources = rentalRepository.findSettlementSources(
+                    SETTLED_STATUSES, run.getPeriodStart(), run.getPeriodEnd(), cursor, partition.getToId(), chunk);
+            if (sources.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> partitionRepository.markCompleted(partition.getId()));
+                return settled;
+            }
+            long lastId = sources.get(sources.size() - 1).rentalId();
+            transactionTemplate.executeWithoutResult(status -> {
+                insert(run.getId(), sources);
+                partitionRepository.advance(partition.getId(), lastId);
+            });
+            settled += sources.size();
+            cursor = lastId;
+        }
+    }
+
+    private void insert(Long runId, List<RentalSettlementSource> sources) {
+        Timestamp settledAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, sources, chunkSize, (ps, source) -> {
+            SettlementCalculator.Amounts amounts = calculator.calculate(source);
+            ps.setLong(1, source.rentalId());
+            ps.setLong(2, runId);
+            ps.setLong(3, source.customerId());
+            ps.setString(4, source.status().name());
+            ps.setInt(5, amounts.lateDays());
+            ps.setBigDecimal(6, amounts.lateFee());
+            ps.setBigDecimal(7, amounts.damageCharge());
+            ps.setBigDecimal(8, source.deposit());
+            ps.setBigDecimal(9, amounts.depositDeduction());
+            ps.setBigDecimal(10, amounts.refundAmount());
+            ps.setBigDecimal(11, amounts.amountDue());
+            ps.setTimestamp(12, settledAt);
+        });
+    }
+
+    private SettlementRun updateRun(Long runId, Consumer<SettlementRun> change) {
+        return transactionTemplate.execute(status -> {
+            SettlementRun run = getRun(runId);
+            change.accept(run);
+            return run;
+        });
+    }
+}
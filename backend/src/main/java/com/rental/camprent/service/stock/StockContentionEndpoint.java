@@ -0,0 +1,26 @@
+package com.rental.camprent.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 재고 변경 충돌이 많은 장비 조회 (/actuator/stockcontention)
+ */
+@Component
+@Endpoint(id = "stockcontention")
+@RequiredArgsConstructor
+public class StockContentionEndpoint {
+
+    private static final int TOP_ITEMS = 20;
+
+    private final StockReservationService stockReservationService;
+
+    @ReadOperation
+    public Map<Long, Long> hotItems() {
+        return stockReservationService.hotItems(TOP_ITEMS);
+    }
+}
@@ -0,0 +1,150 @@
+package com.rental.camprent.service.stock;
+
+import com.rental.camprent.domain.campingitem.CampingItem;
+import com.rental.camprent.domain.campingitem.CampingItemChangedEvent;
+import com.rental.camprent.domain.campingitem.CampingItemRepository;
+import com.rental.camprent.service.availability.AvailabilityService;
+import com.rental.camprent.service.metrics.OperationTimer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 재고 예약/해제
+ * - CampingItem 의 @Version 으로 동시 변경을 감지하고, 충돌 시 지수 백오프로 제한 횟수만큼 재시도한다
+ * - 재시도를 포함한 처리 시간과 충돌/재시도/실패 건수를 메트릭으로 남기고, 장비별 충돌 건수를 집계해 인기 장비를 확인할 수 있게 한다
+ * - 커밋된 보유 수량은 버전과 함께 가용 재고 원장에 넘겨, 동시에 커밋된 변경이 늦게 도착해도 이전 값으로 덮어쓰지 않게 한다
+ * - 커밋된 변경은 CampingItemChangedEvent 로 알린다
+ */
+@Slf4j
+@Service
+public class StockReservationService {
+
+    private static final String METRIC_PREFIX = "camprent.stock.reservation";
+
+    private final CampingItemRepository campingItemRepository;
+    private final AvailabilityService availabilityService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final OperationTimer operationTimer;
+
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+
+    private final Counter conflictCounter;
+    private final Counter retryCounter;
+    private final ConcurrentMap<Long, LongAdder> conflictsByItem = new ConcurrentHashMap<>();
+
+    public StockReservationService(CampingItemRepository campingItemRepository,
+                                   AvailabilityService availabilityService,
+                                   PlatformTransactionManager transactionManager,
+                                   ApplicationEventPublisher eventPublisher,
+                                   MeterRegistry meterRegistry,
+                                   OperationTimer operationTimer,
+                                   @Value("${camprent.stock.reservation.max-attempts:5}") int maxAttempts,
+                                   @Value("${camprent.stock.reservation.initial-backoff-ms:10}") long initialBackoffMs,
+                                   @Value("${camprent.stock.reservation.max-backoff-ms:200}") long maxBackoffMs) {
+        this.campingItemRepository = campingItemRepository;
+        this.availabilityService = availabilityService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.operationTimer = operationTimer;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.conflictCounter = meterRegistry.counter(METRIC_PREFIX + ".conflicts");
+        this.retryCounter = meterRegistry.counter(METRIC_PREFIX + ".retries");
+    }
+
+    /**
+     * 재고 예약 (재고 감소)
+     */
+    public void reserve(Long itemId, int quantity) {
+        operationTimer.record(METRIC_PREFIX + ".duration", "reserve",
+                () -> execute(itemId, "reserve", item -> item.decreaseStock(quantity)));
+    }
+
+    /**
+     * 재고 해제 (재고 증가)
+     */
+    public void release(Long itemId, int quantity) {
+        operationTimer.record(METRIC_PREFIX + ".duration", "release",
+                () -> execute(itemId, "release", item -> item.increaseStock(quantity)));
+    }
+
+    /**
+     * 충돌이 많은 장비 순으로 조회
+     */
+    public Map<Long, Long> hotItems(int limit) {
+        Map<Long, Long> result = new LinkedHashMap<>();
+        conflictsByItem.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<Long, LongAdder> e) -> e.getValue().sum()).reversed())
+                .limit(limit)
+                .forEach(e -> result.put(e.getKey(), e.getValue().sum()));
+        return result;
+    }
+
+    private void execute(Long itemId, String operation, Consumer<CampingItem> mutation) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                CampingItem changed = transactionTemplate.execute(status -> {
+                    CampingItem item = campingItemRepository.findById(itemId)
+                            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 장비입니다. id=" + itemId));
+                    mutation.accept(item);
+                    return item;
+                });
+                availabilityService.updateCapacity(itemId, changed.getStockQuantity(), changed.getVersion());
+                eventPublisher.publishEvent(CampingItemChangedEvent.of(changed, changed.getStatus()));
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                conflictCounter.increment();
+                conflictsByItem.computeIfAbsent(itemId, id -> new LongAdder()).increment();
+                if (attempt >= maxAttempts) {
+                    recordFailure(operation, "conflict");
+                    log.warn("재고 변경 충돌 재시도 초과 - itemId={}, operation={}, attempts={}", itemId, operation, attempt);
+                    throw new IllegalStateException("재고 변경 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.", e);
+                }
+                retryCounter.increment();
+                backoff(attempt);
+            } catch (IllegalStateException e) {
+                recordFailure(operation, "insufficient");
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 지수 백오프 + full jitter
+     */
+    private void backoff(int attempt) {
+        long cap = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재고 변경 재시도 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private void recordFailure(String operation, String reason) {
+        meterRegistry.counter(METRIC_PREFIX + ".failures", "operation", operation, "reason", reason).increment();
+    }
+}
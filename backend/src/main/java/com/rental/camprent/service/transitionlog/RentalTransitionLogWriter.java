@@ -0,0 +1,239 @@
+package com.rental.camprent.service.transitionlog;
+
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import com.rental.camprent.domain.campingrental.RentalTransitionEvent;
+import com.rental.camprent.domain.campingrental.RentalsMarkedOverdueEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대여 상태 전이 이력 비동기 배치 기록
+ * - 커밋된 전이만 제한 크기 큐에 넣고, 전용 스레드가 모아서 JDBC 배치 insert 한다
+ * - 큐가 가득 차면 잠깐 기다렸다가(역압) 그래도 자리가 없으면 보관 파일에 남긴다
+ * - DB 기록에 실패한 배치도 보관 파일에 남기고, 주기적으로 다시 기록한다 (이미 기록된 eventId 는 건너뜀)
+ * - 종료 시 큐에 남은 이력을 모두 기록한 뒤 멈춘다 (작업 스레드가 제때 끝나지 않으면 남은 이력은 보관 파일로)
+ */
+@Slf4j
+@Component
+public class RentalTransitionLogWriter {
+
+    private static final String METRIC_PREFIX = "camprent.rental.transition-log";
+    private static final String INSERT_SQL = "insert into rental_transition_logs "
+            + "(event_id, rental_id, from_status, to_status, actor, occurred_at) values (?, ?, ?, ?, ?, ?)";
+    private static final String EXISTING_SQL = "select event_id from rental_transition_logs where event_id in (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<TransitionLogEntry> queue;
+    private final TransitionLogSpillFile spillFile;
+    private final int batchSize;
+    private final long offerTimeoutMs;
+    private final long flushIntervalMs;
+    private final long replayIntervalMs;
+
+    private final Counter writtenCounter;
+    private final Counter spilledCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public RentalTransitionLogWriter(JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${camprent.transition-log.queue-capacity:10000}") int queueCapacity,
+                                     @Value("${camprent.transition-log.batch-size:200}") int batchSize,
+                                     @Value("${camprent.transition-log.offer-timeout-ms:50}") long offerTimeoutMs,
+                                     @Value("${camprent.transition-log.flush-interval-ms:200}") long flushIntervalMs,
+                                     @Value("${camprent.transition-log.replay-interval-ms:30000}") long replayIntervalMs,
+                                     @Value("${camprent.transition-log.spill-file:data/rental-transition-log.spill}") Path spillPath) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.spillFile = new TransitionLogSpillFile(spillPath);
+        this.batchSize = batchSize;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.flushIntervalMs = flushIntervalMs;
+        this.replayIntervalMs = replayIntervalMs;
+        this.writtenCounter = meterRegistry.counter(METRIC_PREFIX + ".written");
+        this.spilledCounter = meterRegistry.counter(METRIC_PREFIX + ".spilled");
+        this.droppedCounter = meterRegistry.counter(METRIC_PREFIX + ".dropped");
+        meterRegistry.gaugeCollectionSize(METRIC_PREFIX + ".queue", List.of(), queue);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::run, "rental-transition-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 종료 - 작업 스레드가 큐를 비울 때까지 기다리고, 남은 이력은 직접 기록
+     * - 작업 스레드가 아직 배치를 쓰고 있으면 동시에/순서가 뒤바뀌어 기록되지 않게 남은 이력은 보관 파일에 남긴다
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+        List<TransitionLogEntry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (remaining.isEmpty()) {
+            return;
+        }
+        if (worker.isAlive()) {
+            log.warn("전이 이력 기록 스레드가 종료되지 않아 남은 이력은 보관 파일에 남깁니다. {}건", remaining.size());
+            spill(remaining);
+        } else {
+            write(remaining);
+        }
+    }
+
+    /**
+     * 대여 상태 전이 커밋 후 기록 대기열에 추가
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransition(RentalTransitionEvent event) {
+        if (event.isStatusChanged() || event.isExtended()) {
+            enqueue(TransitionLogEntry.from(event));
+        }
+    }
+
+    /**
+     * 연체 일괄 처리 청크 커밋 후 기록 (일괄 처리는 엔티티를 거치지 않으므로 ID 목록으로 받는다)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMarkedOverdue(RentalsMarkedOverdueEvent event) {
+        for (Long rentalId : event.rentalIds()) {
+            enqueue(TransitionLogEntry.of(rentalId, RentalStatus.IN_PROGRESS, RentalStatus.OVERDUE,
+                    event.actor(), event.occurredAt()));
+        }
+    }
+
+    void enqueue(TransitionLogEntry entry) {
+        try {
+            if (queue.offer(entry, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        spill(List.of(entry));
+    }
+
+    private void run() {
+        long nextReplayAt = 0;
+        List<TransitionLogEntry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                TransitionLogEntry first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    write(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("전이 이력 기록 스레드 오류", e);
+                batch.clear();
+            }
+
+            if (System.currentTimeMillis() >= nextReplayAt) {
+                replaySpilled();
+                nextReplayAt = System.currentTimeMillis() + replayIntervalMs;
+            }
+        }
+    }
+
+    private void write(List<TransitionLogEntry> entries) {
+        try {
+            insert(entries);
+            writtenCounter.increment(entries.size());
+        } catch (RuntimeException e) {
+            log.warn("전이 이력 DB 기록 실패 - 보관 파일에 남깁니다. {}건", entries.size(), e);
+            spill(entries);
+        }
+    }
+
+    private void insert(List<TransitionLogEntry> entries) {
+        transactionTemplate.executeWithoutResult(status -> batchInsert(entries));
+    }
+
+    /**
+     * 보관분 재기록 - 배치마다 이미 기록된 eventId 를 걸러내고 insert (재기록 도중 죽었다가 다시 읽어도 중복 없음)
+     */
+    private void insertNew(List<TransitionLogEntry> entries) {
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            List<TransitionLogEntry> batch = entries.subList(from, Math.min(entries.size(), from + batchSize));
+            transactionTemplate.executeWithoutResult(status -> {
+                Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+                        EXISTING_SQL.formatted(String.join(", ", Collections.nCopies(batch.size(), "?"))),
+                        String.class, batch.stream().map(TransitionLogEntry::eventId).toArray()));
+                batchInsert(batch.stream().filter(entry -> existing.add(entry.eventId())).toList());
+            });
+        }
+    }
+
+    private void batchInsert(List<TransitionLogEntry> entries) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, batchSize, (ps, entry) -> {
+            ps.setString(1, entry.eventId());
+            ps.setLong(2, entry.rentalId());
+            if (entry.fromStatus() == null) {
+                ps.setNull(3, Types.VARCHAR);
+            } else {
+                ps.setString(3, entry.fromStatus().name());
+            }
+            ps.setString(4, entry.toStatus().name());
+            ps.setString(5, entry.actor());
+            ps.setTimestamp(6, Timestamp.valueOf(entry.occurredAt()));
+        });
+    }
+
+    private void spill(List<TransitionLogEntry> entries) {
+        try {
+            spillFile.append(entries);
+            spilledCounter.increment(entries.size());
+        } catch (IOException e) {
+            droppedCounter.increment(entries.size());
+            log.error("전이 이력 보관 실패 - {}건 유실. file={}", entries.size(), spillFile.path(), e);
+        }
+    }
+
+    void replaySpilled() {
+        try {
+            int replayed = spillFile.replay(this::insertNew);
+            if (replayed > 0) {
+                writtenCounter.increment(replayed);
+                log.info("보관된 전이 이력 재기록 완료 - {}건", replayed);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("보관된 전이 이력 재기록 실패 - 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+}
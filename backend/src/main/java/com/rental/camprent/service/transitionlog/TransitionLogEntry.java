@@ -0,0 +1,81 @@
+package com.rental.camprent.service.transitionlog;
+
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import com.rental.camprent.domain.campingrental.RentalTransitionEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 전이 이력 한 건 (큐/보관 파일 공용 표현)
+ *
+ * @param eventId 이력 식별자 - 보관 파일 재기록 시 이미 기록된 이력을 걸러낸다
+ */
+record TransitionLogEntry(String eventId,
+                          Long rentalId,
+                          RentalStatus fromStatus,
+                          RentalStatus toStatus,
+                          String actor,
+                          LocalDateTime occurredAt) {
+
+    private static final int MAX_ACTOR_LENGTH = 100;
+    private static final String SEPARATOR = "\t";
+    private static final String NONE = "-";
+
+    TransitionLogEntry {
+        actor = sanitize(actor);
+    }
+
+    static TransitionLogEntry of(Long rentalId, RentalStatus fromStatus, RentalStatus toStatus,
+                                 String actor, LocalDateTime occurredAt) {
+        return new TransitionLogEntry(UUID.randomUUID().toString(), rentalId, fromStatus, toStatus, actor, occurredAt);
+    }
+
+    static TransitionLogEntry from(RentalTransitionEvent event) {
+        return of(event.rentalId(), event.fromStatus(), event.toStatus(), event.actor(), event.occurredAt());
+    }
+
+    /**
+     * 보관 파일 한 줄 (eventId, rentalId, fromStatus, toStatus, actor, occurredAt 을 탭으로 구분)
+     */
+    String toLine() {
+        return String.join(SEPARATOR,
+                eventId,
+                String.valueOf(rentalId),
+                fromStatus == null ? NONE : fromStatus.name(),
+                toStatus.name(),
+                actor,
+                occurredAt.toString());
+    }
+
+    /**
+     * 보관 파일 한 줄 읽기 - 식별자가 없는 이전 형식(5개 필드)은 줄 내용으로 식별자를 만든다 (다시 읽어도 같은 값)
+     */
+    static TransitionLogEntry fromLine(String line) {
+        String[] fields = line.split(SEPARATOR, -1);
+        if (fields.length == 5) {
+            String eventId = UUID.nameUUIDFromBytes(line.getBytes(StandardCharsets.UTF_8)).toString();
+            return fromFields(eventId, fields, 0);
+        }
+        if (fields.length != 6) {
+            throw new IllegalArgumentException("전이 이력 형식이 올바르지 않습니다. line=" + line);
+        }
+        return fromFields(fields[0], fields, 1);
+    }
+
+    private static TransitionLogEntry fromFields(String eventId, String[] fields, int offset) {
+        return new TransitionLogEntry(
+                eventId,
+                Long.valueOf(fields[offset]),
+                NONE.equals(fields[offset + 1]) ? null : RentalStatus.valueOf(fields[offset + 1]),
+                RentalStatus.valueOf(fields[offset + 2]),
+                fields[offset + 3],
+                LocalDateTime.parse(fields[offset + 4]));
+    }
+
+    private static String sanitize(String actor) {
+        String value = actor == null || actor.isBlank() ? "system" : actor.replaceAll("[\\t\\r\\n]", " ");
+        return value.length() > MAX_ACTOR_LENGTH ? value.substring(0, MAX_ACTOR_LENGTH) : value;
+    }
+}
@@ -0,0 +1,97 @@
+package com.rental.camprent.service.transitionlog;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 전이 이력 보관 파일 (큐가 가득 찼거나 DB 기록에 실패한 이력을 디스크에 남겨두고 나중에 재기록)
+ * - 추가할 때마다 fsync 하므로 프로세스가 죽어도 남는다
+ * - 재기록은 파일을 .replay 로 옮긴 뒤 처리하고, 성공하면 지운다 (실패하면 다음 재기록 때 다시 시도)
+ * - 기록 커밋 후 .replay 를 지우기 전에 죽으면 같은 이력이 다시 넘어가므로, 받는 쪽이 eventId 로 중복을 걸러야 한다
+ */
+@Slf4j
+class TransitionLogSpillFile {
+
+    private final Path file;
+    private final Path replayFile;
+    private final Object replayLock = new Object();     // 재기록끼리 같은 .replay 를 동시에 처리하지 않게
+
+    TransitionLogSpillFile(Path file) {
+        this.file = file;
+        this.replayFile = file.resolveSibling(file.getFileName() + ".replay");
+    }
+
+    synchronized void append(Collection<TransitionLogEntry> entries) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            BufferedWriter writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+            for (TransitionLogEntry entry : entries) {
+                writer.write(entry.toLine());
+                writer.newLine();
+            }
+            writer.flush();
+            channel.force(true);
+        }
+    }
+
+    /**
+     * 보관된 이력을 꺼내 writer 로 넘긴다. writer 가 예외 없이 끝나야 보관분을 지운다.
+     *
+     * @return 재기록한 건수
+     */
+    int replay(Consumer<List<TransitionLogEntry>> writer) throws IOException {
+        synchronized (replayLock) {
+            return replayLocked(writer);
+        }
+    }
+
+    private int replayLocked(Consumer<List<TransitionLogEntry>> writer) throws IOException {
+        synchronized (this) {
+            if (Files.notExists(replayFile)) {
+                if (Files.notExists(file)) {
+                    return 0;
+                }
+                Files.move(file, replayFile, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+
+        List<TransitionLogEntry> entries = new ArrayList<>();
+        for (String line : Files.readAllLines(replayFile, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                entries.add(TransitionLogEntry.fromLine(line));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                log.warn("손상된 전이 이력은 건너뜁니다. line={}", line);
+            }
+        }
+        if (!entries.isEmpty()) {
+            writer.accept(entries);
+        }
+        Files.delete(replayFile);
+        return entries.size();
+    }
+
+    Path path() {
+        return file;
+    }
+}
@@ -0,0 +1,48 @@
+package com.rental.camprent.service.user;
+
+import com.rental.camprent.domain.user.User;
+import com.rental.camprent.domain.user.UserRepository;
+import com.rental.camprent.domain.user.UserRole;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 초기 관리자 계정 생성 (설정되어 있고 아직 없을 때만)
+ */
+@Slf4j
+@Component
+public class BootstrapAdminInitializer {
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final String username;
+    private final String password;
+
+    public BootstrapAdminInitializer(UserRepository userRepository,
+                                     PasswordEncoder passwordEncoder,
+                                     @Value("${camprent.security.bootstrap-admin.username:}") String username,
+                                     @Value("${camprent.security.bootstrap-admin.password:}") String password) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.username = username;
+        this.password = password;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIfAbsent() {
+        if (username.isBlank() || password.isBlank() || userRepository.existsByUsername(username)) {
+            return;
+        }
+        userRepository.save(User.builder()
+                .username(username)
+                .password(passwordEncoder.encode(password))
+                .name(username)
+                .role(UserRole.ADMIN)
+                .build());
+        log.info("초기 관리자 계정 생성 - username={}", username);
+    }
+}
@@ -0,0 +1,89 @@
+package com.rental.camprent.service.user;
+
+import com.rental.camprent.domain.user.User;
+import com.rental.camprent.domain.user.UserCredentialsChangedEvent;
+import com.rental.camprent.domain.user.UserRepository;
+import com.rental.camprent.support.LocalLruCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 사용자 조회 (크기 제한 LRU 캐시 적용)
+ * - 인증 요청마다 users 행을 읽지 않도록 사용자명 기준으로 캐시한다
+ * - 비활성화/활성화/비밀번호 변경이 커밋되면 해당 사용자를 캐시에서 지운다
+ * - 인증 후 자격 증명 삭제(eraseCredentials)가 캐시 값에 영향을 주지 않도록 조회마다 새 UserDetails 를 만든다
+ */
+@Service
+public class CachingUserDetailsService implements UserDetailsService {
+
+    private static final String METRIC_PREFIX = "camprent.security.user-cache";
+
+    private final UserRepository userRepository;
+    private final LocalLruCache<String, CachedUser> cache;
+    private final AtomicLong invalidationVersion = new AtomicLong();  // 조회 중 무효화된 값을 다시 채우지 않기 위한 버전
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public CachingUserDetailsService(UserRepository userRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${camprent.security.user-cache.max-entries:10000}") int maxEntries,
+                                     @Value("${camprent.security.user-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = new LocalLruCache<>(maxEntries, Duration.ofSeconds(ttlSeconds));
+        this.hitCounter = meterRegistry.counter(METRIC_PREFIX + ".requests", "result", "hit");
+        this.missCounter = meterRegistry.counter(METRIC_PREFIX + ".requests", "result", "miss");
+        meterRegistry.gauge(METRIC_PREFIX + ".size", cache, LocalLruCache::size);
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        CachedUser cached = cache.get(username);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached.toUserDetails();
+        }
+        missCounter.increment();
+
+        long version = invalidationVersion.get();
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("존재하지 않는 사용자입니다. username=" + username));
+        CachedUser loaded = new CachedUser(user.getUsername(), user.getPassword(), user.isEnabled(), user.getRole().name());
+        if (invalidationVersion.get() == version) {
+            cache.put(username, loaded);
+        }
+        return loaded.toUserDetails();
+    }
+
+    /**
+     * 로그인 정보 변경 커밋 후 캐시 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCredentialsChanged(UserCredentialsChangedEvent event) {
+        evict(event.username());
+    }
+
+    public void evict(String username) {
+        invalidationVersion.incrementAndGet();
+        cache.remove(username);
+    }
+
+    private record CachedUser(String username, String password, boolean enabled, String role) {
+
+        UserDetails toUserDetails() {
+            return org.springframework.security.core.userdetails.User.withUsername(username)
+                    .password(password)
+                    .disabled(!enabled)
+                    .roles(role)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.rental.camprent.service.user;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마지막 로그인 시간 지연 기록 (write-behind)
+ * - 로그인마다 UPDATE 하지 않고 사용자별 최신 시간만 모아 두었다가 주기적으로 한 번에 배치 UPDATE 한다
+ * - 같은 사용자의 로그인이 몰려도 주기당 1건으로 합쳐진다
+ * - 종료 시 남은 값을 기록한다 (비정상 종료 시 마지막 주기분은 유실될 수 있음)
+ */
+@Slf4j
+@Component
+public class LastLoginWriteBehind {
+
+    private static final String METRIC_PREFIX = "camprent.security.last-login";
+    private static final String UPDATE_SQL = "update users set last_login_at = ? "
+            + "where username = ? and (last_login_at is null or last_login_at < ?)";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConcurrentHashMap<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final Counter loginCounter;
+    private final Counter writtenCounter;
+
+    public LastLoginWriteBehind(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.loginCounter = meterRegistry.counter(METRIC_PREFIX + ".logins");
+        this.writtenCounter = meterRegistry.counter(METRIC_PREFIX + ".written");
+        meterRegistry.gaugeMapSize(METRIC_PREFIX + ".pending", List.of(), pending);
+    }
+
+    @EventListener
+    public void onAuthenticationSuccess(AuthenticationSuccessEvent event) {
+        loginCounter.increment();
+        pending.merge(event.getAuthentication().getName(), LocalDateTime.now(),
+                (previous, current) -> current.isAfter(previous) ? current : previous);
+    }
+
+    @Scheduled(fixedDelayString = "${camprent.security.last-login.flush-interval-ms:10000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, LocalDateTime>> batch = new ArrayList<>(pending.size());
+        for (String username : pending.keySet()) {
+            LocalDateTime loginAt = pending.remove(username);
+            if (loginAt != null) {
+                batch.add(Map.entry(username, loginAt));
+            }
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch, BATCH_SIZE, (ps, entry) -> {
+                Timestamp loginAt = Timestamp.valueOf(entry.getValue());
+                ps.setTimestamp(1, loginAt);
+                ps.setString(2, entry.getKey());
+                ps.setTimestamp(3, loginAt);
+            });
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            // 실패분은 다음 주기에 다시 시도 (그 사이 더 최신 로그인이 있으면 그 값을 유지)
+            batch.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(),
+                    (current, failed) -> current.isAfter(failed) ? current : failed));
+            log.warn("마지막 로그인 시간 기록 실패 - {}건, 다음 주기에 다시 시도합니다.", batch.size(), e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+}
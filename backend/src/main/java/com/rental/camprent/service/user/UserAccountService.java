@@ -0,0 +1,43 @@
+package com.rental.camprent.service.user;
+
+import com.rental.camprent.domain.user.User;
+import com.rental.camprent.domain.user.UserCredentialsChangedEvent;
+import com.rental.camprent.domain.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자 계정 관리 (로그인 정보 변경 시 UserCredentialsChangedEvent 발행)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class UserAccountService {
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void disable(String username) {
+        getUser(username).disable();
+        eventPublisher.publishEvent(new UserCredentialsChangedEvent(username));
+    }
+
+    public void enable(String username) {
+        getUser(username).enable();
+        eventPublisher.publishEvent(new UserCredentialsChangedEvent(username));
+    }
+
+    public void changePassword(String username, String rawPassword) {
+        getUser(username).changePassword(passwordEncoder.encode(rawPassword));
+        eventPublisher.publishEvent(new UserCredentialsChangedEvent(username));
+    }
+
+    private User getUser(String username) {
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다. username=" + username));
+    }
+}
@@ -0,0 +1,75 @@
+package com.rental.camprent.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @ParameterizedTest
+    @CsvSource({
+            "GET, /api/rentals",
+            "GET, /api/rentals/export",
+            "GET, /api/customers/1/rentals",
+            "GET, /api/customers/1/stats",
+            "POST, /api/customers/stats/rebuild",
+            "POST, /api/camping-items",
+            "POST, /api/camping-items/import",
+            "PUT, /api/camping-items/1",
+            "PATCH, /api/camping-items/1/status",
+            "POST, /api/camping-items/1/stock/increase",
+            "POST, /api/rentals/1/approve",
+            "POST, /api/rentals/1/start",
+            "POST, /api/rentals/1/complete",
+            "POST, /api/rentals/1/cancel",
+            "POST, /api/rentals/1/extend",
+            "GET, /actuator/metrics",
+            "GET, /actuator/stockcontention"
+    })
+    @WithMockUser(roles = "USER")
+    void adminOnlyEndpoints_areForbiddenForUsers(String method, String path) throws Exception {
+        mockMvc.perform(request(HttpMethod.valueOf(method), path))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void catalogReads_areAllowedForUsers() throws Exception {
+        mockMvc.perform(get("/api/camping-items/page").param("category", "TENT"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void actuatorMetrics_areAllowedForAdmins() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void health_isPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void anonymousRequests_areUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/camping-items/page").param("category", "TENT"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,114 @@
+package com.rental.camprent.domain.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeasonCalendarTest {
+
+    @Test
+    void singleDay_countsOneDayOfItsSeason() {
+        SeasonCalendar.SeasonDays days = SeasonCalendar.countDays(LocalDate.of(2024, 2, 29), LocalDate.of(2024, 2, 29));
+
+        assertThat(days.getTotalDays()).isEqualTo(1);
+        assertThat(days.getDays(Season.WINTER)).isEqualTo(1);
+        assertThat(days.getPeakSeasonDays()).isZero();
+    }
+
+    @Test
+    void segmentBoundaries_splitDaysBetweenSeasons() {
+        SeasonCalendar.SeasonDays springToSummer = SeasonCalendar.countDays(LocalDate.of(2025, 5, 31), LocalDate.of(2025, 6, 1));
+        assertThat(springToSummer.getDays(Season.SPRING)).isEqualTo(1);
+        assertThat(springToSummer.getDays(Season.SUMMER)).isEqualTo(1);
+
+        SeasonCalendar.SeasonDays summerToAutumn = SeasonCalendar.countDays(LocalDate.of(2025, 8, 31), LocalDate.of(2025, 9, 1));
+        assertThat(summerToAutumn.getDays(Season.SUMMER)).isEqualTo(1);
+        assertThat(summerToAutumn.getDays(Season.AUTUMN)).isEqualTo(1);
+
+        // 구간 시작일/마지막 날 하루씩
+        assertThat(SeasonCalendar.countDays(LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 1)).getDays(Season.SUMMER)).isEqualTo(1);
+        assertThat(SeasonCalendar.countDays(LocalDate.of(2025, 8, 31), LocalDate.of(2025, 8, 31)).getDays(Season.SUMMER)).isEqualTo(1);
+    }
+
+    @Test
+    void rangeAcrossYear_staysInOneWinterSegment() {
+        SeasonCalendar.SeasonDays days = SeasonCalendar.countDays(LocalDate.of(2024, 12, 30), LocalDate.of(2025, 1, 2));
+
+        assertThat(days.getTotalDays()).isEqualTo(4);
+        assertThat(days.getDays(Season.WINTER)).isEqualTo(4);
+    }
+
+    @Test
+    void rangeAcrossYear_countsEveryTouchedSegment() {
+        // 11/30 가을, 12/1 ~ 2/28 겨울 90일, 3/1 봄
+        SeasonCalendar.SeasonDays days = SeasonCalendar.countDays(LocalDate.of(2024, 11, 30), LocalDate.of(2025, 3, 1));
+
+        assertThat(days.getDays(Season.AUTUMN)).isEqualTo(1);
+        assertThat(days.getDays(Season.WINTER)).isEqualTo(90);
+        assertThat(days.getDays(Season.SPRING)).isEqualTo(1);
+        assertThat(days.getDays(Season.SUMMER)).isZero();
+    }
+
+    @Test
+    void leapYear_countsAllDays() {
+        SeasonCalendar.SeasonDays days = SeasonCalendar.countDays(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+
+        assertThat(days.getTotalDays()).isEqualTo(366);
+        assertThat(days.getDays(Season.SPRING)).isEqualTo(92);
+        assertThat(days.getDays(Season.SUMMER)).isEqualTo(92);
+        assertThat(days.getDays(Season.AUTUMN)).isEqualTo(91);
+        assertThat(days.getDays(Season.WINTER)).isEqualTo(91);
+    }
+
+    @Test
+    void countDays_matchesDayByDayCount() {
+        LocalDate first = LocalDate.of(2023, 11, 15);
+        for (int offset = 0; offset < 120; offset += 7) {
+            LocalDate start = first.plusDays(offset);
+            for (int length = 0; length < 400; length += 13) {
+                LocalDate end = start.plusDays(length);
+                long[] expected = new long[Season.values().length];
+                for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+                    expected[Season.fromDate(date).ordinal()]++;
+                }
+                SeasonCalendar.SeasonDays days = SeasonCalendar.countDays(start, end);
+                for (Season season : Season.values()) {
+                    assertThat(days.getDays(season)).as("%s ~ %s %s", start, end, season)
+                            .isEqualTo(expected[season.ordinal()]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void outsideCalendarRange_isRejected() {
+        assertThatThrownBy(() -> SeasonCalendar.countDays(LocalDate.of(1969, 12, 31), LocalDate.of(1970, 1, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SeasonCalendar.countDays(LocalDate.of(2025, 1, 1), LocalDate.MAX))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void lastCalendarDay_isCounted() {
+        SeasonCalendar.SeasonDays days = SeasonCalendar.countDays(LocalDate.of(2199, 12, 1), LocalDate.of(2199, 12, 31));
+
+        assertThat(days.getDays(Season.WINTER)).isEqualTo(31);
+    }
+
+    @Test
+    void calculateCost_appliesPeakMultiplierPerDay() {
+        BigDecimal cost = SeasonCalendar.calculateCost(new BigDecimal("10000"), LocalDate.of(2025, 5, 31), LocalDate.of(2025, 6, 1));
+
+        assertThat(cost).isEqualByComparingTo("25000");
+    }
+
+    @Test
+    void countDays_rejectsEndBeforeStart() {
+        assertThatThrownBy(() -> SeasonCalendar.countDays(LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
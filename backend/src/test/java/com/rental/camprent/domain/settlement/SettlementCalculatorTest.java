@@ -0,0 +1,90 @@
+package com.rental.camprent.domain.settlement;
+
+import com.rental.camprent.domain.campingrental.RentalSettlementSource;
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SettlementCalculatorTest {
+
+    private final SettlementCalculator calculator = new SettlementCalculator(new BigDecimal("1.5"), new BigDecimal("0.3"));
+
+    @Test
+    void onTimeReturn_refundsWholeDeposit() {
+        SettlementCalculator.Amounts amounts = calculator.calculate(source(RentalStatus.COMPLETED,
+                LocalDate.of(2025, 4, 10), LocalDate.of(2025, 4, 10), "50000", "10000"));
+
+        assertThat(amounts.lateDays()).isZero();
+        assertThat(amounts.lateFee()).isEqualTo(new BigDecimal("0.00"));
+        assertThat(amounts.damageCharge()).isEqualTo(new BigDecimal("0.00"));
+        assertThat(amounts.depositDeduction()).isEqualTo(new BigDecimal("0.00"));
+        assertThat(amounts.refundAmount()).isEqualTo(new BigDecimal("50000.00"));
+        assertThat(amounts.amountDue()).isEqualTo(new BigDecimal("0.00"));
+    }
+
+    @Test
+    void lateFee_weightsEachLateDayBySeason() {
+        // 5/31 봄 1일(10000) + 6/1~6/2 여름 2일(15000 x 2) = 40000, 연체 배율 1.5
+        SettlementCalculator.Amounts amounts = calculator.calculate(source(RentalStatus.COMPLETED,
+                LocalDate.of(2025, 5, 30), LocalDate.of(2025, 6, 2), "100000", "10000"));
+
+        assertThat(amounts.lateDays()).isEqualTo(3);
+        assertThat(amounts.lateFee()).isEqualTo(new BigDecimal("60000.00"));
+        assertThat(amounts.depositDeduction()).isEqualTo(new BigDecimal("60000.00"));
+        assertThat(amounts.refundAmount()).isEqualTo(new BigDecimal("40000.00"));
+        assertThat(amounts.amountDue()).isEqualTo(new BigDecimal("0.00"));
+    }
+
+    @Test
+    void chargesOverDeposit_areBilledAsAmountDue() {
+        // 연체 7/11~7/13 여름 3일 = 45000 x 1.5 = 67500, 파손 50000 x 0.3 = 15000
+        SettlementCalculator.Amounts amounts = calculator.calculate(source(RentalStatus.RETURED_DAMAGED,
+                LocalDate.of(2025, 7, 10), LocalDate.of(2025, 7, 13), "50000", "10000"));
+
+        assertThat(amounts.lateDays()).isEqualTo(3);
+        assertThat(amounts.lateFee()).isEqualTo(new BigDecimal("67500.00"));
+        assertThat(amounts.damageCharge()).isEqualTo(new BigDecimal("15000.00"));
+        assertThat(amounts.depositDeduction()).isEqualTo(new BigDecimal("50000.00"));
+        assertThat(amounts.refundAmount()).isEqualTo(new BigDecimal("0.00"));
+        assertThat(amounts.amountDue()).isEqualTo(new BigDecimal("32500.00"));
+    }
+
+    @Test
+    void damagedReturn_deductsDamageChargeFromDeposit() {
+        SettlementCalculator.Amounts amounts = calculator.calculate(source(RentalStatus.RETURED_DAMAGED,
+                LocalDate.of(2025, 10, 1), LocalDate.of(2025, 9, 30), "20000", "10000"));
+
+        assertThat(amounts.lateDays()).isZero();
+        assertThat(amounts.damageCharge()).isEqualTo(new BigDecimal("6000.00"));
+        assertThat(amounts.depositDeduction()).isEqualTo(new BigDecimal("6000.00"));
+        assertThat(amounts.refundAmount()).isEqualTo(new BigDecimal("14000.00"));
+        assertThat(amounts.amountDue()).isEqualTo(new BigDecimal("0.00"));
+    }
+
+    @Test
+    void amounts_areRoundedHalfUpToCents() {
+        // 가을 1일 333.33 x 1.5 = 499.995
+        SettlementCalculator.Amounts amounts = calculator.calculate(source(RentalStatus.COMPLETED,
+                LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 2), "1000", "333.33"));
+
+        assertThat(amounts.lateFee()).isEqualTo(new BigDecimal("500.00"));
+        assertThat(amounts.refundAmount()).isEqualTo(new BigDecimal("500.00"));
+    }
+
+    @Test
+    void constructor_rejectsDeductionRateAboveOne() {
+        assertThatThrownBy(() -> new SettlementCalculator(BigDecimal.ONE, new BigDecimal("1.1")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static RentalSettlementSource source(RentalStatus status, LocalDate endDate, LocalDate actualReturnDate,
+                                                 String deposit, String baseDailyRate) {
+        return new RentalSettlementSource(1L, 1L, status, endDate, actualReturnDate,
+                new BigDecimal(deposit), new BigDecimal(baseDailyRate));
+    }
+}
@@ -0,0 +1,121 @@
+package com.rental.camprent.service;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import com.rental.camprent.domain.campingitem.CampingItem;
+import com.rental.camprent.domain.campingitem.CampingItemRepository;
+import com.rental.camprent.domain.campingitem.CampingItemStatus;
+import com.rental.camprent.domain.customer.Customer;
+import com.rental.camprent.domain.customer.CustomerRepository;
+import com.rental.camprent.domain.customer.CustomerType;
+import com.rental.camprent.dto.request.PackageReservationRequest;
+import com.rental.camprent.dto.response.PackageReservationResponse;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 묶음 예약이 구성 장비 수와 관계없이 같은 수의 쿼리로 처리되는지 확인
+ * - 고객 조회 1 + 장비 일괄 잠금 조회 1 + 대여 배치 insert 1 (시퀀스 조회는 할당 크기에 따라 달라 제외)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.rental.camprent.service.PackageReservationQueryTest$RecordingStatementInspector")
+@Transactional
+class PackageReservationQueryTest {
+
+    private static final int ITEM_COUNT = 6;
+    private static final int QUANTITY = 2;
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private CampingItemRepository campingItemRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Customer customer;
+    private final List<Long> itemIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        customer = customerRepository.save(Customer.builder()
+                .name("묶음 예약 고객")
+                .phone("010-1111-0000")
+                .type(CustomerType.INDIVIDUAL)
+                .build());
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            itemIds.add(campingItemRepository.save(CampingItem.builder()
+                    .name("캠핑 세트 구성품 " + i)
+                    .category(CampingCategory.TENT)
+                    .model("모델 " + i)
+                    .description("테스트 장비")
+                    .stockQuantity(5)
+                    .baseDailyRate(new BigDecimal("30000.00"))
+                    .status(CampingItemStatus.AVAILABLE)
+                    .build()).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        RecordingStatementInspector.record(Thread.currentThread());
+    }
+
+    @Test
+    void reservePackage_locksItemsOnceAndBatchesInserts() {
+        LocalDate startDate = LocalDate.now().plusDays(10);
+        List<PackageReservationRequest.Item> lines = itemIds.stream()
+                .map(itemId -> new PackageReservationRequest.Item(itemId, QUANTITY))
+                .toList();
+
+        PackageReservationResponse response = rentalService.reservePackage(new PackageReservationRequest(
+                customer.getId(), startDate, startDate.plusDays(2), lines, new BigDecimal("50000.00"), null));
+        entityManager.flush();
+
+        assertThat(response.getRentalIds()).hasSize(ITEM_COUNT * QUANTITY);
+        List<String> statements = RecordingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> !sql.contains("_seq"))
+                .toList();
+        assertThat(statements).filteredOn(sql -> sql.startsWith("select")).hasSize(2);
+        assertThat(statements).filteredOn(sql -> sql.startsWith("insert")).hasSize(1);
+        assertThat(statements).hasSize(3);
+    }
+
+    /**
+     * 테스트 스레드에서 Hibernate 가 준비하는 SQL 을 기록 (배치 insert 는 한 번만 준비된다)
+     * - 스케줄 작업 등 다른 스레드의 쿼리는 제외
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+        private static volatile Thread recording;
+
+        static void record(Thread thread) {
+            STATEMENTS.clear();
+            recording = thread;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            if (Thread.currentThread() == recording) {
+                STATEMENTS.add(sql.strip().toLowerCase(Locale.ROOT));
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.rental.camprent.service;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import com.rental.camprent.domain.campingitem.CampingItem;
+import com.rental.camprent.domain.campingitem.CampingItemRepository;
+import com.rental.camprent.domain.campingitem.CampingItemStatus;
+import com.rental.camprent.domain.campingrental.Rental;
+import com.rental.camprent.domain.campingrental.RentalRepository;
+import com.rental.camprent.domain.customer.Customer;
+import com.rental.camprent.domain.customer.CustomerRepository;
+import com.rental.camprent.domain.customer.CustomerType;
+import com.rental.camprent.dto.response.RentalSummaryResponse;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대여 목록 조회 시 장비/고객 연관관계로 인한 N+1 쿼리가 발생하지 않는지 확인
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class RentalQueryServiceTest {
+
+    private static final int RENTAL_COUNT = 12;
+    private static final PageRequest PAGE = PageRequest.of(0, 10, Sort.by("id"));
+
+    @Autowired
+    private RentalQueryService rentalQueryService;
+
+    @Autowired
+    private CampingItemRepository campingItemRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate startDate = LocalDate.of(2026, 7, 20);
+        for (int i = 0; i < RENTAL_COUNT; i++) {
+            CampingItem item = campingItemRepository.save(CampingItem.builder()
+                    .name("4인용 돔 텐트 " + i)
+                    .category(CampingCategory.TENT)
+                    .model("모델 " + i)
+                    .description("테스트 장비")
+                    .stockQuantity(5)
+                    .baseDailyRate(new BigDecimal("30000.00"))
+                    .status(CampingItemStatus.AVAILABLE)
+                    .build());
+            Customer customer = customerRepository.save(Customer.builder()
+                    .name("고객 " + i)
+                    .phone("010-0000-" + String.format("%04d", i))
+                    .type(CustomerType.INDIVIDUAL)
+                    .build());
+            rentalRepository.save(Rental.builder()
+                    .machine(item)
+                    .customer(customer)
+                    .startDate(startDate)
+                    .endDate(startDate.plusDays(3))
+                    .deposit(new BigDecimal("50000.00"))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findSummaries_executesContentAndCountQueriesOnly() {
+        Page<RentalSummaryResponse> page = rentalQueryService.findSummaries(null, PAGE);
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(RENTAL_COUNT);
+        assertThat(page.getContent()).allSatisfy(rental -> {
+            assertThat(rental.getItemName()).startsWith("4인용 돔 텐트");
+            assertThat(rental.getCustomerPhone()).startsWith("010-0000-");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findRentals_loadsItemAndCustomerWithoutExtraQueries() {
+        Page<RentalSummaryResponse> page = rentalQueryService.findRentals(null, PAGE);
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getContent()).allSatisfy(rental -> {
+            assertThat(rental.getItemName()).startsWith("4인용 돔 텐트");
+            assertThat(rental.getCustomerPhone()).startsWith("010-0000-");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
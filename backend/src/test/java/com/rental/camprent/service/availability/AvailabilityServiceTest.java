@@ -0,0 +1,115 @@
+package com.rental.camprent.service.availability;
+
+import com.rental.camprent.domain.campingitem.CampingItem;
+import com.rental.camprent.domain.campingitem.CampingItemRepository;
+import com.rental.camprent.domain.campingrental.RentalRepository;
+import com.rental.camprent.domain.campingrental.ReservedPeriod;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AvailabilityServiceTest {
+
+    private static final Long ITEM_ID = 1L;
+    private static final LocalDate DAY = LocalDate.now().plusDays(3);
+
+    private final CampingItemRepository campingItemRepository = mock(CampingItemRepository.class);
+    private final RentalRepository rentalRepository = mock(RentalRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        CampingItem item = mock(CampingItem.class);
+        when(item.getId()).thenReturn(ITEM_ID);
+        when(item.getStockQuantity()).thenReturn(1);
+        when(item.getVersion()).thenReturn(0L);
+        when(campingItemRepository.findAll()).thenReturn(List.of(item));
+        when(campingItemRepository.findById(ITEM_ID)).thenReturn(Optional.of(item));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void rebuild_waitsForInFlightTransactionWithoutBlockingIt() throws Exception {
+        AvailabilityService service = new AvailabilityService(campingItemRepository, rentalRepository, meterRegistry, 5_000);
+        service.rebuild();
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.reserve(ITEM_ID, DAY, DAY);
+
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(service::rebuild);
+        Thread.sleep(100);
+        assertThat(rebuild).isNotDone();
+
+        // 예약 트랜잭션 커밋 - 재구성은 커밋된 예약을 DB 에서 읽는다
+        when(rentalRepository.findReservedPeriods(any(), any())).thenReturn(List.of(new ReservedPeriod(ITEM_ID, DAY, DAY)));
+        commit();
+
+        rebuild.get(5, TimeUnit.SECONDS);
+        assertThat(service.availableQuantity(ITEM_ID, DAY, DAY)).isZero();
+        assertThat(driftCount()).isZero();
+    }
+
+    @Test
+    void callbackOverlappingTimedOutRebuild_isSkippedAndCounted() {
+        AvailabilityService service = new AvailabilityService(campingItemRepository, rentalRepository, meterRegistry, 50);
+        service.rebuild();
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.release(ITEM_ID, DAY, DAY);
+
+        service.rebuild();
+        commit();
+
+        assertThat(service.availableQuantity(ITEM_ID, DAY, DAY)).isEqualTo(1);
+        assertThat(driftCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rollbackInSameGeneration_undoesReservation() {
+        AvailabilityService service = new AvailabilityService(campingItemRepository, rentalRepository, meterRegistry, 5_000);
+        service.rebuild();
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.reserve(ITEM_ID, DAY, DAY);
+        assertThat(service.availableQuantity(ITEM_ID, DAY, DAY)).isZero();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(service.availableQuantity(ITEM_ID, DAY, DAY)).isEqualTo(1);
+        assertThat(driftCount()).isZero();
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private double driftCount() {
+        return meterRegistry.counter("camprent.availability.ledger-drift").count();
+    }
+}
@@ -0,0 +1,130 @@
+package com.rental.camprent.service.availability;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemReservationLedgerTest {
+
+    private static final long TODAY = 20_000L;
+
+    @Test
+    void tryReserve_succeedsUntilPeakDayIsFull() {
+        ItemReservationLedger ledger = new ItemReservationLedger(2, TODAY);
+
+        assertThat(ledger.tryReserve(TODAY + 1, TODAY + 3, 1)).isTrue();
+        assertThat(ledger.tryReserve(TODAY + 3, TODAY + 5, 1)).isTrue();
+
+        assertThat(ledger.available(TODAY + 1, TODAY + 2)).isEqualTo(1);
+        assertThat(ledger.available(TODAY + 3, TODAY + 3)).isZero();
+        assertThat(ledger.tryReserve(TODAY + 2, TODAY + 4, 1)).isFalse();
+        assertThat(ledger.tryReserve(TODAY + 4, TODAY + 6, 1)).isTrue();
+    }
+
+    @Test
+    void tryReserveAll_reservesNothingWhenOneLedgerIsShort() {
+        ItemReservationLedger tent = new ItemReservationLedger(3, TODAY);
+        ItemReservationLedger stove = new ItemReservationLedger(1, TODAY);
+        stove.tryReserve(TODAY + 2, TODAY + 2, 1);
+
+        int failed = ItemReservationLedger.tryReserveAll(List.of(tent, stove), new int[]{2, 1}, TODAY + 1, TODAY + 3);
+
+        assertThat(failed).isEqualTo(1);
+        assertThat(tent.available(TODAY + 1, TODAY + 3)).isEqualTo(3);
+        assertThat(stove.available(TODAY + 1, TODAY + 3)).isZero();
+    }
+
+    @Test
+    void tryReserveAll_reservesEveryLedger() {
+        ItemReservationLedger tent = new ItemReservationLedger(3, TODAY);
+        ItemReservationLedger stove = new ItemReservationLedger(1, TODAY);
+
+        int failed = ItemReservationLedger.tryReserveAll(List.of(tent, stove), new int[]{2, 1}, TODAY + 1, TODAY + 3);
+
+        assertThat(failed).isEqualTo(-1);
+        assertThat(tent.available(TODAY + 1, TODAY + 3)).isEqualTo(1);
+        assertThat(stove.available(TODAY + 1, TODAY + 3)).isZero();
+    }
+
+    @Test
+    void rollbackUndo_restoresAvailability() {
+        ItemReservationLedger tent = new ItemReservationLedger(3, TODAY);
+        ItemReservationLedger stove = new ItemReservationLedger(1, TODAY);
+        ItemReservationLedger.tryReserveAll(List.of(tent, stove), new int[]{2, 1}, TODAY, TODAY + 2);
+
+        assertThat(tent.add(TODAY, TODAY + 2, -2)).isZero();
+        assertThat(stove.add(TODAY, TODAY + 2, -1)).isZero();
+
+        assertThat(tent.available(TODAY, TODAY + 2)).isEqualTo(3);
+        assertThat(stove.available(TODAY, TODAY + 2)).isEqualTo(1);
+    }
+
+    @Test
+    void reservationBeyondInitialWindow_growsLedger() {
+        ItemReservationLedger ledger = new ItemReservationLedger(1, TODAY);
+
+        assertThat(ledger.tryReserve(TODAY + 120, TODAY + 300, 1)).isTrue();
+
+        assertThat(ledger.available(TODAY + 300, TODAY + 300)).isZero();
+        assertThat(ledger.available(TODAY + 301, TODAY + 400)).isEqualTo(1);
+        assertThat(ledger.available(TODAY, TODAY + 119)).isEqualTo(1);
+        assertThat(ledger.tryReserve(TODAY + 200, TODAY + 200, 1)).isFalse();
+    }
+
+    @Test
+    void pastDays_areCutOff() {
+        ItemReservationLedger ledger = new ItemReservationLedger(1, TODAY);
+
+        assertThat(ledger.tryReserve(TODAY - 10, TODAY - 1, 1)).isTrue();
+        assertThat(ledger.available(TODAY - 10, TODAY + 5)).isEqualTo(1);
+
+        assertThat(ledger.tryReserve(TODAY - 3, TODAY + 1, 1)).isTrue();
+        assertThat(ledger.available(TODAY, TODAY + 1)).isZero();
+        assertThat(ledger.available(TODAY + 2, TODAY + 2)).isEqualTo(1);
+        assertThat(ledger.add(TODAY - 10, TODAY - 1, -1)).isZero();
+    }
+
+    @Test
+    void releasingMoreThanReserved_isReportedAndClampedToZero() {
+        ItemReservationLedger ledger = new ItemReservationLedger(2, TODAY);
+        ledger.tryReserve(TODAY + 1, TODAY + 2, 1);
+
+        assertThat(ledger.add(TODAY + 1, TODAY + 3, -1)).isEqualTo(1);
+        assertThat(ledger.add(TODAY + 1, TODAY + 2, -1)).isEqualTo(2);
+
+        assertThat(ledger.available(TODAY + 1, TODAY + 3)).isEqualTo(2);
+        assertThat(ledger.tryReserve(TODAY + 1, TODAY + 3, 2)).isTrue();
+    }
+
+    @Test
+    void overdueQuantity_holdsTodayUntilReleased() {
+        ItemReservationLedger ledger = new ItemReservationLedger(2, TODAY - 5, () -> TODAY);
+        ledger.tryReserve(TODAY, TODAY + 2, 1);
+
+        assertThat(ledger.addOverdue(1)).isZero();
+
+        assertThat(ledger.available(TODAY - 1, TODAY)).isZero();
+        assertThat(ledger.available(TODAY + 1, TODAY + 2)).isEqualTo(1);
+        assertThat(ledger.tryReserve(TODAY, TODAY, 1)).isFalse();
+
+        assertThat(ledger.addOverdue(-1)).isZero();
+        assertThat(ledger.available(TODAY, TODAY)).isEqualTo(1);
+        assertThat(ledger.addOverdue(-1)).isEqualTo(1);
+    }
+
+    @Test
+    void updateCapacity_ignoresOlderVersions() {
+        ItemReservationLedger ledger = new ItemReservationLedger(5, TODAY);
+
+        assertThat(ledger.updateCapacity(3, 2)).isTrue();
+        // 먼저 커밋된 변경(version 1)이 늦게 도착
+        assertThat(ledger.updateCapacity(4, 1)).isFalse();
+        assertThat(ledger.updateCapacity(4, 2)).isFalse();
+
+        assertThat(ledger.available(TODAY, TODAY)).isEqualTo(3);
+        assertThat(ledger.updateCapacity(6, 3)).isTrue();
+        assertThat(ledger.available(TODAY, TODAY)).isEqualTo(6);
+    }
+}
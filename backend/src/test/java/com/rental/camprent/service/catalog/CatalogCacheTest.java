@@ -0,0 +1,66 @@
+package com.rental.camprent.service.catalog;
+
+import com.rental.camprent.dto.response.CampingItemResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogCacheTest {
+
+    private static final String KEY = "category:TENT";
+
+    private final InMemorySharedCatalogCache sharedCache = new InMemorySharedCatalogCache(Duration.ofMinutes(5));
+    private final CatalogCache nodeA = new CatalogCache(sharedCache, 16, 30);
+    private final CatalogCache nodeB = new CatalogCache(sharedCache, 16, 30);
+
+    @Test
+    void loadedList_isSharedWithOtherNodes() {
+        AtomicInteger loads = new AtomicInteger();
+
+        nodeA.get(KEY, counting(loads, List::of));
+        nodeB.get(KEY, counting(loads, List::of));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void remoteEvictionDuringLoad_discardsLateSharedWrite() {
+        // A 가 DB 를 읽는 사이 B 의 변경이 커밋되어 공유 캐시를 무효화 (A 로의 전파는 아직 도착 전)
+        nodeA.get(KEY, () -> {
+            sharedCache.evict(Set.of(KEY));
+            return List.of();
+        });
+
+        AtomicInteger loads = new AtomicInteger();
+        nodeB.get(KEY, counting(loads, List::of));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void invalidate_evictsEveryNode() {
+        AtomicInteger loads = new AtomicInteger();
+        nodeA.get(KEY, counting(loads, List::of));
+        nodeB.get(KEY, counting(loads, List::of));
+
+        nodeB.invalidate(Set.of(KEY));
+
+        nodeA.get(KEY, counting(loads, List::of));
+        nodeB.get(KEY, counting(loads, List::of));
+        assertThat(loads).hasValue(2);
+    }
+
+    private static Supplier<List<CampingItemResponse>> counting(AtomicInteger loads,
+                                                                Supplier<List<CampingItemResponse>> loader) {
+        return () -> {
+            loads.incrementAndGet();
+            return loader.get();
+        };
+    }
+}
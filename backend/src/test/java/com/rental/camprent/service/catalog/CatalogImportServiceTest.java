@@ -0,0 +1,76 @@
+package com.rental.camprent.service.catalog;
+
+import com.rental.camprent.domain.campingitem.CampingItem;
+import com.rental.camprent.domain.campingitem.CampingItemRepository;
+import com.rental.camprent.dto.response.CatalogImportResponse;
+import com.rental.camprent.dto.response.ImportRowError;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 입력이 중간에 잘린 JSON 일괄 등록
+ * - 청크마다 커밋되므로 테스트 트랜잭션 없이 실제로 커밋하고, 끝나면 컨텍스트(DB)를 버린다
+ */
+@SpringBootTest(properties = "camprent.catalog-import.chunk-size=2")
+@DirtiesContext
+class CatalogImportServiceTest {
+
+    @Autowired
+    private CatalogImportService catalogImportService;
+
+    @Autowired
+    private CampingItemRepository campingItemRepository;
+
+    @Test
+    void importJson_truncatedInput_returnsPartialResult() {
+        String prefix = UUID.randomUUID().toString();
+        String json = "[" + item(prefix + "-1") + "," + item(prefix + "-2") + ",{\"name\":\"" + prefix + "-3";
+
+        CatalogImportResponse response = catalogImportService.importJson(stream(json));
+
+        assertThat(response.getTotalRows()).isEqualTo(3);
+        assertThat(response.getImportedRows()).isEqualTo(2);
+        assertThat(response.getFailedRows()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(ImportRowError::getRowNumber).containsExactly(3L);
+        assertThat(response.getErrors().get(0).getMessage()).startsWith("JSON 구문 오류");
+        assertThat(importedNames(prefix)).containsExactlyInAnyOrder(prefix + "-1", prefix + "-2");
+    }
+
+    @Test
+    void importJson_unclosedArray_returnsPartialResult() {
+        String prefix = UUID.randomUUID().toString();
+        String json = "[" + item(prefix + "-1") + "," + item(prefix + "-2");
+
+        CatalogImportResponse response = catalogImportService.importJson(stream(json));
+
+        assertThat(response.getImportedRows()).isEqualTo(2);
+        assertThat(response.getFailedRows()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(ImportRowError::getRowNumber).containsExactly(3L);
+        assertThat(importedNames(prefix)).hasSize(2);
+    }
+
+    private List<String> importedNames(String prefix) {
+        return campingItemRepository.findAll().stream()
+                .map(CampingItem::getName)
+                .filter(name -> name.startsWith(prefix))
+                .toList();
+    }
+
+    private static String item(String name) {
+        return "{\"name\":\"" + name + "\",\"category\":\"TENT\",\"model\":\"모델\",\"description\":\"테스트 장비\","
+                + "\"stockQuantity\":3,\"baseDailyRate\":30000,\"status\":\"AVAILABLE\"}";
+    }
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
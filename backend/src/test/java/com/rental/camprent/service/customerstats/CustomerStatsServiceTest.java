@@ -0,0 +1,174 @@
+package com.rental.camprent.service.customerstats;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import com.rental.camprent.domain.campingitem.CampingItem;
+import com.rental.camprent.domain.campingitem.CampingItemRepository;
+import com.rental.camprent.domain.campingitem.CampingItemStatus;
+import com.rental.camprent.domain.customer.Customer;
+import com.rental.camprent.domain.customer.CustomerRentalStats;
+import com.rental.camprent.domain.customer.CustomerRentalStatsRepository;
+import com.rental.camprent.domain.customer.CustomerRepository;
+import com.rental.camprent.domain.customer.CustomerType;
+import com.rental.camprent.dto.request.RentalCreateRequest;
+import com.rental.camprent.service.RentalService;
+import com.rental.camprent.service.overdue.OverdueSweepJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 증분 반영한 고객 통계가 rebuild() 재집계 결과와 같은지 확인
+ * - 통계는 커밋 직전 리스너로 반영되므로 테스트 트랜잭션 없이 실제로 커밋하고, 끝나면 컨텍스트(DB)를 버린다
+ */
+@SpringBootTest
+@DirtiesContext
+class CustomerStatsServiceTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    private static final BigDecimal DEPOSIT = new BigDecimal("50000.00");
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private OverdueSweepJob overdueSweepJob;
+
+    @Autowired
+    private CustomerStatsService customerStatsService;
+
+    @Autowired
+    private CustomerRentalStatsRepository statsRepository;
+
+    @Autowired
+    private CampingItemRepository campingItemRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private CampingItem item;
+
+    @BeforeEach
+    void setUp() {
+        item = campingItemRepository.save(CampingItem.builder()
+                .name("4인용 돔 텐트")
+                .category(CampingCategory.TENT)
+                .model("모델")
+                .description("테스트 장비")
+                .stockQuantity(100)
+                .baseDailyRate(new BigDecimal("30000.00"))
+                .status(CampingItemStatus.AVAILABLE)
+                .build());
+    }
+
+    @Test
+    void incrementalStats_matchRebuild() {
+        LocalDate today = LocalDate.now();
+        Customer customer = newCustomer();
+
+        // 연체 일괄 처리 후 늦게 반납
+        Long overdue = rent(customer, today.minusDays(10), today.minusDays(3));
+        rentalService.approve(overdue);
+        rentalService.start(overdue);
+
+        // 개별 연체 처리 후 취소
+        Long cancelledOverdue = rent(customer, today.minusDays(8), today.minusDays(2));
+        rentalService.approve(cancelledOverdue);
+        rentalService.start(cancelledOverdue);
+        rentalService.markAsOverdue(cancelledOverdue);
+
+        overdueSweepJob.sweep(today);
+        rentalService.complete(overdue, today);
+        rentalService.cancel(cancelledOverdue);
+
+        // 기한 내 반납
+        Long returned = rent(customer, today.minusDays(5), today.minusDays(1));
+        rentalService.approve(returned);
+        rentalService.start(returned);
+        rentalService.complete(returned, today.minusDays(1));
+
+        // 승인 후 취소
+        Long cancelled = rent(customer, today.plusDays(3), today.plusDays(5));
+        rentalService.approve(cancelled);
+        rentalService.cancel(cancelled);
+
+        // 진행 중 연장, 신청만 한 대여
+        Long extended = rent(customer, today, today.plusDays(2));
+        rentalService.approve(extended);
+        rentalService.start(extended);
+        rentalService.extend(extended, today.plusDays(4));
+        rent(customer, today.plusDays(20), today.plusDays(22));
+
+        CustomerRentalStats incremental = statsRepository.findById(customer.getId()).orElseThrow();
+        assertThat(incremental.getRentalCount()).isEqualTo(6);
+        assertThat(incremental.getActiveRentals()).isEqualTo(2);
+        assertThat(incremental.getOverdueCount()).isEqualTo(1);
+
+        customerStatsService.rebuild();
+        CustomerRentalStats rebuilt = statsRepository.findById(customer.getId()).orElseThrow();
+
+        assertThat(incremental.getRentalCount()).isEqualTo(rebuilt.getRentalCount());
+        assertThat(incremental.getTotalSpend()).isEqualByComparingTo(rebuilt.getTotalSpend());
+        assertThat(incremental.getActiveRentals()).isEqualTo(rebuilt.getActiveRentals());
+        assertThat(incremental.getOverdueCount()).isEqualTo(rebuilt.getOverdueCount());
+        assertThat(incremental.getLastRentalDate()).isEqualTo(rebuilt.getLastRentalDate());
+    }
+
+    @Test
+    void concurrentFirstRentals_allSucceedAndAreCounted() throws Exception {
+        Customer customer = newCustomer();
+        LocalDate startDate = LocalDate.now().plusDays(30);
+        int threads = 8;
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch go = new CountDownLatch(1);
+
+        List<Future<Long>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                Callable<Long> task = () -> {
+                    ready.countDown();
+                    go.await();
+                    return rent(customer, startDate, startDate.plusDays(2));
+                };
+                futures.add(executor.submit(task));
+            }
+            ready.await();
+            go.countDown();
+            for (Future<Long> future : futures) {
+                assertThat(future.get()).isNotNull();
+            }
+        }
+
+        CustomerRentalStats stats = statsRepository.findById(customer.getId()).orElseThrow();
+        assertThat(stats.getRentalCount()).isEqualTo(threads);
+        assertThat(stats.getActiveRentals()).isEqualTo(threads);
+    }
+
+    private Customer newCustomer() {
+        int seq = SEQUENCE.incrementAndGet();
+        return customerRepository.save(Customer.builder()
+                .name("고객 " + seq)
+                .phone("010-1000-" + String.format("%04d", seq))
+                .type(CustomerType.INDIVIDUAL)
+                .build());
+    }
+
+    private Long rent(Customer customer, LocalDate startDate, LocalDate endDate) {
+        return rentalService.create(new RentalCreateRequest(
+                item.getId(), customer.getId(), startDate, endDate, DEPOSIT, null));
+    }
+}
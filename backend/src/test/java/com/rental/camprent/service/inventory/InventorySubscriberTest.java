@@ -0,0 +1,52 @@
+package com.rental.camprent.service.inventory;
+
+import com.rental.camprent.domain.campingitem.CampingCategory;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InventorySubscriberTest {
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> EVENT = SseEmitter.event().comment("ping").build();
+
+    @Test
+    void offer_schedulesOneDrainPerBacklog() {
+        List<Runnable> scheduled = new ArrayList<>();
+        InventorySubscriber subscriber = new InventorySubscriber(new SseEmitter(), EnumSet.allOf(CampingCategory.class),
+                4, scheduled::add, (closed, cause) -> { });
+
+        assertThat(subscriber.offer(EVENT)).isTrue();
+        assertThat(subscriber.offer(EVENT)).isTrue();
+        assertThat(scheduled).hasSize(1);
+        assertThat(subscriber.isIdle()).isFalse();
+
+        scheduled.get(0).run();
+
+        assertThat(subscriber.isIdle()).isTrue();
+    }
+
+    @Test
+    void offer_disconnectsWhenBufferOverflows() {
+        List<Runnable> scheduled = new ArrayList<>();
+        AtomicReference<Throwable> closedWith = new AtomicReference<>();
+        InventorySubscriber subscriber = new InventorySubscriber(new SseEmitter(), EnumSet.of(CampingCategory.TENT),
+                2, scheduled::add, (closed, cause) -> closedWith.set(cause));
+
+        assertThat(subscriber.offer(EVENT)).isTrue();
+        assertThat(subscriber.offer(EVENT)).isTrue();
+        assertThat(subscriber.offer(EVENT)).isFalse();
+
+        assertThat(closedWith.get()).isInstanceOf(IllegalStateException.class);
+        // 끊긴 뒤에는 더 쌓거나 발송을 예약하지 않음
+        subscriber.offer(EVENT);
+        assertThat(scheduled).hasSize(1);
+    }
+}
@@ -0,0 +1,46 @@
+package com.rental.camprent.service.transitionlog;
+
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 큐가 가득 차면 잠깐 기다린 뒤 보관 파일로 넘기는지 확인 (작업 스레드는 띄우지 않음)
+ */
+class RentalTransitionLogWriterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void fullQueue_spillsToFileAfterOfferTimeout() throws Exception {
+        Path spillPath = dir.resolve("transition-log.spill");
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RentalTransitionLogWriter writer = new RentalTransitionLogWriter(jdbcTemplate,
+                mock(PlatformTransactionManager.class), meterRegistry, 1, 10, 20, 200, 30_000, spillPath);
+
+        TransitionLogEntry queued = TransitionLogEntry.of(1L, null, RentalStatus.PENDING, "kim", LocalDateTime.now());
+        TransitionLogEntry overflow = TransitionLogEntry.of(2L, null, RentalStatus.PENDING, "lee", LocalDateTime.now());
+        long startedAt = System.nanoTime();
+        writer.enqueue(queued);
+        writer.enqueue(overflow);
+
+        assertThat((System.nanoTime() - startedAt) / 1_000_000).isGreaterThanOrEqualTo(20);
+        assertThat(Files.readAllLines(spillPath, StandardCharsets.UTF_8)).containsExactly(overflow.toLine());
+        assertThat(meterRegistry.counter("camprent.rental.transition-log.spilled").count()).isEqualTo(1);
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,67 @@
+package com.rental.camprent.service.transitionlog;
+
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보관 파일 재기록이 커밋 후 .replay 삭제 전에 죽어 같은 이력을 다시 읽어도 중복 기록하지 않는지 확인
+ */
+@SpringBootTest(properties = {
+        "camprent.transition-log.spill-file=build/test-spill/transition-log-replay.spill",
+        "camprent.transition-log.replay-interval-ms=3600000"
+})
+@DirtiesContext
+class TransitionLogReplayTest {
+
+    private static final Path SPILL_PATH = Path.of("build/test-spill/transition-log-replay.spill");
+    private static final long RENTAL_ID = 900_001L;
+
+    @Autowired
+    private RentalTransitionLogWriter writer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.deleteIfExists(SPILL_PATH);
+        Files.deleteIfExists(SPILL_PATH.resolveSibling(SPILL_PATH.getFileName() + ".replay"));
+        jdbcTemplate.update("delete from rental_transition_logs where rental_id = ?", RENTAL_ID);
+    }
+
+    @Test
+    void replayingSameEntriesAgain_insertsEachOnce() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        List<TransitionLogEntry> entries = List.of(
+                TransitionLogEntry.of(RENTAL_ID, null, RentalStatus.PENDING, "kim", now),
+                TransitionLogEntry.of(RENTAL_ID, RentalStatus.PENDING, RentalStatus.APPROVED, "admin", now.plusMinutes(1)));
+        TransitionLogSpillFile spillFile = new TransitionLogSpillFile(SPILL_PATH);
+
+        spillFile.append(entries);
+        spillFile.append(entries.subList(0, 1));        // 같은 파일 안의 중복
+        writer.replaySpilled();
+        assertThat(countLogs()).isEqualTo(2);
+
+        spillFile.append(entries);                      // 삭제 전에 죽어 같은 보관분이 다시 남은 경우
+        writer.replaySpilled();
+        assertThat(countLogs()).isEqualTo(2);
+        assertThat(SPILL_PATH).doesNotExist();
+    }
+
+    private long countLogs() {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from rental_transition_logs where rental_id = ?", Long.class, RENTAL_ID);
+    }
+}
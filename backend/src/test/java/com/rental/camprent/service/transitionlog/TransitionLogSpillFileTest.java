@@ -0,0 +1,83 @@
+package com.rental.camprent.service.transitionlog;
+
+import com.rental.camprent.domain.campingrental.RentalStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransitionLogSpillFileTest {
+
+    private static final LocalDateTime OCCURRED_AT = LocalDateTime.of(2026, 7, 20, 10, 30);
+
+    @TempDir
+    Path dir;
+
+    private Path path;
+    private TransitionLogSpillFile spillFile;
+
+    @BeforeEach
+    void setUp() {
+        path = dir.resolve("transition-log.spill");
+        spillFile = new TransitionLogSpillFile(path);
+    }
+
+    @Test
+    void replay_passesSpilledEntriesAndDeletesFile() throws Exception {
+        List<TransitionLogEntry> spilled = List.of(
+                TransitionLogEntry.of(1L, null, RentalStatus.PENDING, "kim", OCCURRED_AT),
+                TransitionLogEntry.of(1L, RentalStatus.PENDING, RentalStatus.APPROVED, "admin", OCCURRED_AT.plusHours(1)));
+        spillFile.append(spilled);
+
+        List<TransitionLogEntry> replayed = new ArrayList<>();
+        assertThat(spillFile.replay(replayed::addAll)).isEqualTo(2);
+
+        assertThat(replayed).containsExactlyElementsOf(spilled);
+        assertThat(path).doesNotExist();
+        assertThat(spillFile.replay(replayed::addAll)).isZero();
+    }
+
+    @Test
+    void failedReplay_keepsEntriesWithSameEventIds() throws Exception {
+        TransitionLogEntry entry = TransitionLogEntry.of(2L, RentalStatus.IN_PROGRESS, RentalStatus.OVERDUE,
+                "overdue-sweep", OCCURRED_AT);
+        spillFile.append(List.of(entry));
+
+        assertThatThrownBy(() -> spillFile.replay(entries -> {
+            throw new IllegalStateException("DB 장애");
+        })).isInstanceOf(IllegalStateException.class);
+
+        TransitionLogEntry later = TransitionLogEntry.of(3L, null, RentalStatus.PENDING, "lee", OCCURRED_AT);
+        spillFile.append(List.of(later));
+
+        List<TransitionLogEntry> replayed = new ArrayList<>();
+        spillFile.replay(replayed::addAll);
+        assertThat(replayed).containsExactly(entry);
+        spillFile.replay(replayed::addAll);
+        assertThat(replayed).containsExactly(entry, later);
+    }
+
+    @Test
+    void legacyLinesWithoutEventId_getStableEventIds() throws Exception {
+        String legacy = String.join("\t", "4", "-", "PENDING", "park", OCCURRED_AT.toString());
+        Files.writeString(path, legacy + System.lineSeparator() + "broken line" + System.lineSeparator(),
+                StandardCharsets.UTF_8);
+
+        List<TransitionLogEntry> replayed = new ArrayList<>();
+        spillFile.replay(replayed::addAll);
+
+        assertThat(replayed).hasSize(1);
+        assertThat(replayed.get(0).rentalId()).isEqualTo(4L);
+        assertThat(replayed.get(0).fromStatus()).isNull();
+        assertThat(replayed.get(0).eventId()).isEqualTo(TransitionLogEntry.fromLine(legacy).eventId());
+    }
+}